@@ -30,8 +30,13 @@ class BoardService {
         return this.api.delete(`/boards/${boardNo}`);
     }
 
-    async getComments(boardNo) {
-        return this.api.get(`/boards/${boardNo}/comments`);
+    // 댓글 목록 (커서 페이지: content, hasNext, nextCursor)
+    async getComments(boardNo, after = null, size = 50) {
+        const params = { size };
+        if (after) {
+            params.after = after;
+        }
+        return this.api.get(`/boards/${boardNo}/comments`, params);
     }
 
     async createComment(boardNo, content) {
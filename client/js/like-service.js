@@ -61,6 +61,25 @@ class LikeService {
 	    }
 	}
 
+	/**
+	 * 여러 게시글의 좋아요 상태 일괄 조회 (목록 화면용, 한 번의 요청)
+	 * @returns {Object} 게시글 번호 → { liked, likeCount }
+	 */
+	async getLikeStatuses(boardNos) {
+	    if (!boardNos || boardNos.length === 0) {
+	        return {};
+	    }
+	    try {
+	        return await this.apiClient.request('/boards/likes/status', {
+	            method: 'POST',
+	            body: JSON.stringify({ boardNos })
+	        });
+	    } catch (error) {
+	        console.error('좋아요 상태 일괄 조회 실패:', error);
+	        return {};
+	    }
+	}
+
 
 
     /**
@@ -4,8 +4,10 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing; // Auditing 활성화 어노테이션 임포트
+import org.springframework.scheduling.annotation.EnableScheduling; // @Scheduled 작업 활성화
 
 @EnableJpaAuditing // JPA의 Auditing 기능을 애플리케이션 전체에 활성화
+@EnableScheduling // 캐시 갱신 등 주기 작업 활성화
 @ConfigurationPropertiesScan
 @SpringBootApplication
 public class BoardProjectDemoApplication {
@@ -0,0 +1,54 @@
+package com.example.demo.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 전용 스레드 풀 설정 클래스
+ * 요청 처리 스레드(Tomcat)와 분리된, 크기가 제한된 실행기를 Bean으로 등록
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 게시글 통합 조회(상세 + 댓글 + 좋아요 상태) 병렬 실행용 스레드 풀
+     * 큐가 가득 차면 호출 스레드에서 직접 실행하여 작업이 유실되지 않도록 함
+     */
+    @Bean(name = "boardViewExecutor")
+    ThreadPoolTaskExecutor boardViewExecutor(
+            @Value("${board.view-executor.pool-size:8}") int poolSize,
+            @Value("${board.view-executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("board-view-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 실시간 활동(SSE) 전송용 스레드 풀
+     * 느린 구독자의 소켓 쓰기가 @Scheduled 스레드(조회수/스케치 flush 등)를 막지 않도록 전송만 따로 실행
+     * 큐에는 구독자 묶음(send-batch-size명) 단위의 작업이 쌓이며, 가득 차면 예외로 거절하고 호출 측에서 해당 전송을 건너뜀
+     */
+    @Bean(name = "boardEventExecutor")
+    ThreadPoolTaskExecutor boardEventExecutor(
+            @Value("${board.events.send-pool-size:4}") int poolSize,
+            @Value("${board.events.send-queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("board-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
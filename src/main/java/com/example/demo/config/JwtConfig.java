@@ -33,6 +33,12 @@ public class JwtConfig {
      */
     private long refreshTokenExpiration = 604800000;  // 7일
 
+    /**
+     * 서명 검증이 끝난 토큰 캐시 최대 개수
+     * 0이면 캐시하지 않고 매 요청마다 서명을 검증
+     */
+    private int verifiedTokenCacheSize = 10000;
+
     // ========================================
     // Getter/Setter 메서드들
     // Spring이 application.yml 값을 자동으로 주입하기 위해 필요
@@ -61,4 +67,12 @@ public class JwtConfig {
     public void setRefreshTokenExpiration(long refreshTokenExpiration) {
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
+
+    public int getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
+    public void setVerifiedTokenCacheSize(int verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
 }
\ No newline at end of file
@@ -61,6 +61,9 @@ public class RestSecurityConfig {
             	    // 게시글 조회는 모든 사용자 허용 (먼저 설정)
             	    .requestMatchers(HttpMethod.GET, "/api/v1/boards").permitAll()  // 목록 조회
             	    .requestMatchers(HttpMethod.GET, "/api/v1/boards/*").permitAll()  // 상세 조회
+            	    .requestMatchers(HttpMethod.GET, "/api/v1/boards/*/view").permitAll()  // 통합 조회 (토큰 있으면 좋아요 상태 포함)
+            	    .requestMatchers(HttpMethod.GET, "/api/v1/boards/*/events").permitAll()  // 게시글 활동 SSE (전체 피드는 /boards/* 에 포함)
+            	    .requestMatchers(HttpMethod.GET, "/api/v1/boards/*/likes").permitAll()  // 좋아요 누른 사람 목록 (마스킹)
 
             	    // 게시글 작성/수정/삭제는 인증된 사용자만
             	    .requestMatchers(HttpMethod.POST, "/api/v1/boards").hasAnyRole("GUEST", "ADMIN")
@@ -68,6 +71,7 @@ public class RestSecurityConfig {
             	    .requestMatchers(HttpMethod.DELETE, "/api/v1/boards/*").hasAnyRole("GUEST", "ADMIN")
 
             	    .requestMatchers(HttpMethod.GET, "/api/v1/boards/*/comments").permitAll()
+            	    .requestMatchers(HttpMethod.GET, "/api/v1/boards/*/comments/*/replies").permitAll()  // 답글 펼치기
 
             	    // 댓글 작성/삭제는 인증된 사용자만
             	    .requestMatchers(HttpMethod.POST, "/api/v1/boards/*/comments").hasAnyRole("GUEST", "ADMIN")
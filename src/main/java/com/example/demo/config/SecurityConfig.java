@@ -1,5 +1,6 @@
 package com.example.demo.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -7,19 +8,24 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
+import com.example.demo.security.BoundedPasswordEncoder;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 	
 	// 1. PasswordEncoder Bean 등록
 	@Bean
-	PasswordEncoder passwordEncoder() {
-		// UserService에서 사용할 BCryptPasswordEncoder 객체를 Spring컨테이너에 등록
-		return new BCryptPasswordEncoder();
+	BoundedPasswordEncoder passwordEncoder(
+			@Value("${board.password-hashing.pool-size:2}") int poolSize,
+			@Value("${board.password-hashing.queue-capacity:50}") int queueCapacity,
+			@Value("${board.password-hashing.timeout-ms:5000}") long timeoutMs) {
+		// UserService와 로그인 인증에서 사용할 BCryptPasswordEncoder를 전용 해싱 풀에서 실행하도록 감싸서 등록
+		// (요청 스레드에서 BCrypt를 직접 돌리지 않으므로 로그인 폭주 시에도 조회 요청의 CPU가 보호됨)
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, timeoutMs);
 	}
 	
 	@Bean
@@ -0,0 +1,29 @@
+package com.example.demo.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.demo.jwt.CurrentUserArgumentResolver;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spring MVC 설정
+ *
+ * 역할:
+ * 1. @CurrentUser 파라미터 주입용 ArgumentResolver 등록
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+}
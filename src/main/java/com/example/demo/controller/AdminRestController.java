@@ -0,0 +1,234 @@
+package com.example.demo.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.ApiResponseDto;
+import com.example.demo.security.BoundedPasswordEncoder;
+import com.example.demo.service.BoardLikeIndex;
+import com.example.demo.service.BoardLikeService;
+import com.example.demo.service.BoardService;
+import com.example.demo.service.CommentService;
+import com.example.demo.service.ContentCompressionService;
+import com.example.demo.util.TextCompressor;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 운영 작업 REST API 컨트롤러
+ *
+ * 역할:
+ * 1. 비정규화 데이터 보정 등 운영 작업 실행
+ * 2. ADMIN 권한만 접근 가능 (RestSecurityConfig의 /api/v1/admin/** 설정)
+ */
+@Tag(name = "🛠 Admin", description = "관리자 운영 API")
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminRestController {
+
+    private final BoardService boardService;
+    private final BoardLikeService boardLikeService;
+    private final BoardLikeIndex boardLikeIndex;
+    private final CommentService commentService;
+    private final ContentCompressionService contentCompressionService;
+    private final TextCompressor textCompressor;
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    /**
+     * 게시글 댓글 수 보정 API
+     *
+     * POST /api/v1/admin/boards/comment-count/repair
+     *
+     * 특징:
+     * - TB_BOARD.comment_count를 실제 댓글 개수로 일괄 재계산
+     * - 게시글 번호 구간 단위로 나누어 실행
+     */
+    @Operation(summary = "댓글 수 보정", description = "모든 게시글의 댓글 수를 실제 댓글 개수로 다시 계산합니다 (ADMIN 전용)")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponse(responseCode = "200", description = "보정 완료")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @PostMapping("/boards/comment-count/repair")
+    public ResponseEntity<ApiResponseDto<Integer>> repairCommentCounts() {
+
+        int updated = boardService.repairCommentCounts();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(updated, "댓글 수 보정 완료"));
+    }
+
+    /**
+     * 게시글 좋아요 수 보정 API
+     *
+     * POST /api/v1/admin/boards/like-count/repair
+     *
+     * 특징:
+     * - TB_BOARD.like_count를 실제 좋아요 개수로 일괄 재계산
+     * - 좋아요 토글은 ±1 증감만 하므로 운영 중 불일치가 의심될 때 실행
+     */
+    @Operation(summary = "좋아요 수 보정", description = "모든 게시글의 좋아요 수를 실제 좋아요 개수로 다시 계산합니다 (ADMIN 전용)")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponse(responseCode = "200", description = "보정 완료")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @PostMapping("/boards/like-count/repair")
+    public ResponseEntity<ApiResponseDto<Integer>> repairLikeCounts() {
+
+        int updated = boardLikeService.repairLikeCounts();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(updated, "좋아요 수 보정 완료"));
+    }
+
+    /**
+     * 게시글 요약 생성 API
+     *
+     * POST /api/v1/admin/boards/excerpt/backfill
+     *
+     * 특징:
+     * - 요약(excerpt) 컬럼이 비어 있는 기존 게시글만 본문 앞부분으로 채움 (압축된 본문은 복원 후 요약)
+     * - 게시글 번호 구간 단위로 나누어 실행
+     */
+    @Operation(summary = "게시글 요약 생성", description = "요약이 없는 기존 게시글의 목록 미리보기 요약을 생성합니다 (ADMIN 전용)")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponse(responseCode = "200", description = "생성 완료")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @PostMapping("/boards/excerpt/backfill")
+    public ResponseEntity<ApiResponseDto<Integer>> backfillExcerpts() {
+
+        int updated = contentCompressionService.backfillExcerpts();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(updated, "게시글 요약 생성 완료"));
+    }
+
+    /**
+     * 댓글 스레드 경로 보정 API
+     *
+     * POST /api/v1/admin/comments/thread-path/backfill
+     *
+     * 특징:
+     * - 답글 기능 도입 이전 댓글(경로 없음)을 최상위 댓글 경로로 채움
+     * - 애플리케이션 시작 시 자동으로 실행되며 (CommentThreadPathInitializer), 이 API는 수동 재실행용
+     */
+    @Operation(summary = "댓글 스레드 경로 보정", description = "경로가 없는 기존 댓글을 최상위 댓글로 보정합니다 (ADMIN 전용)")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponse(responseCode = "200", description = "보정 완료")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @PostMapping("/comments/thread-path/backfill")
+    public ResponseEntity<ApiResponseDto<Integer>> backfillThreadPaths() {
+
+        int updated = commentService.backfillThreadPaths();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(updated, "댓글 스레드 경로 보정 완료"));
+    }
+
+    /**
+     * 기존 본문 압축 API
+     *
+     * POST /api/v1/admin/content/compress
+     *
+     * 특징:
+     * - 임계값 이상인 기존 게시글/댓글 본문을 압축 형식으로 다시 저장
+     * - 이미 압축된 행은 건너뛰므로 여러 번 실행해도 안전
+     */
+    @Operation(summary = "기존 본문 압축", description = "임계값 이상인 기존 게시글/댓글 본문을 압축하여 다시 저장합니다 (ADMIN 전용)")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponse(responseCode = "200", description = "압축 완료")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @PostMapping("/content/compress")
+    public ResponseEntity<ApiResponseDto<Map<String, Integer>>> compressContent() {
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("boards", contentCompressionService.compressBoards());
+        result.put("comments", contentCompressionService.compressComments());
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(result, "본문 압축 완료"));
+    }
+
+    /**
+     * 본문 압축 통계 API
+     *
+     * GET /api/v1/admin/content/compression-stats
+     *
+     * 특징:
+     * - 애플리케이션 시작 이후 압축 저장한 건수와 압축 전/후 바이트 수, 압축률 반환
+     */
+    @Operation(summary = "본문 압축 통계", description = "본문 압축 건수와 압축률을 조회합니다 (ADMIN 전용)")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @GetMapping("/content/compression-stats")
+    public ResponseEntity<ApiResponseDto<Map<String, Object>>> getCompressionStats() {
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("thresholdBytes", textCompressor.getThresholdBytes());
+        stats.put("compressedCount", textCompressor.getCompressedCount());
+        stats.put("originalBytes", textCompressor.getOriginalBytes());
+        stats.put("storedBytes", textCompressor.getStoredBytes());
+        stats.put("compressionRatio", textCompressor.getCompressionRatio());
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(stats, "본문 압축 통계 조회 성공"));
+    }
+
+    /**
+     * 좋아요 인덱스 현황 API
+     *
+     * GET /api/v1/admin/boards/like-index/stats
+     *
+     * 특징:
+     * - 메모리에 적재된 게시글 수와 비트맵 추정 메모리 사용량, 상한 반환
+     */
+    @Operation(summary = "좋아요 인덱스 현황", description = "좋아요 비트맵 인덱스의 메모리 사용량을 조회합니다 (ADMIN 전용)")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @GetMapping("/boards/like-index/stats")
+    public ResponseEntity<ApiResponseDto<Map<String, Long>>> getLikeIndexStats() {
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(boardLikeIndex.getStats(), "좋아요 인덱스 현황 조회 성공"));
+    }
+
+    /**
+     * 비밀번호 해싱 풀 현황 API
+     *
+     * GET /api/v1/admin/auth/password-hashing/stats
+     *
+     * 특징:
+     * - 해싱 스레드/대기 큐 사용량, 처리·거절·시간 초과 건수, 평균/최대 해싱 시간과 평균 대기 시간 반환
+     */
+    @Operation(summary = "비밀번호 해싱 풀 현황", description = "로그인/회원가입 해싱 풀의 큐 길이와 지연 시간을 조회합니다 (ADMIN 전용)")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @GetMapping("/auth/password-hashing/stats")
+    public ResponseEntity<ApiResponseDto<Map<String, Object>>> getPasswordHashingStats() {
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(passwordEncoder.getStats(), "비밀번호 해싱 풀 현황 조회 성공"));
+    }
+}
@@ -3,9 +3,12 @@ package com.example.demo.controller;
 import com.example.demo.dto.ApiResponseDto;
 import com.example.demo.dto.LoginRequestDto;
 import com.example.demo.dto.LoginResponseDto;
+import com.example.demo.dto.RefreshTokenRequestDto;
 import com.example.demo.dto.SignupRequestDto;
 import com.example.demo.entity.User;
+import com.example.demo.exception.PasswordHashingRejectedException;
 import com.example.demo.jwt.JwtTokenProvider;
+import com.example.demo.jwt.VerifiedToken;
 import com.example.demo.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,10 +18,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,7 +34,8 @@ import org.springframework.web.bind.annotation.*;
  * 역할:
  * 1. 로그인 API - JWT 토큰 발급
  * 2. 회원가입 API - 새 사용자 등록
- * 3. 로그아웃 API - 토큰 무효화 (향후 구현)
+ * 3. 토큰 재발급 API - Refresh Token 회전 (한 번 사용한 Refresh Token은 폐기)
+ * 4. 로그아웃 API - Access/Refresh Token 폐기
  *
  * @RestController: @Controller + @ResponseBody
  * 모든 메서드가 JSON 응답을 반환
@@ -54,6 +61,7 @@ public class AuthRestController {
     @ApiResponse(responseCode = "200", description = "로그인 성공")
     @ApiResponse(responseCode = "400", description = "입력값 오류")
     @ApiResponse(responseCode = "401", description = "인증 실패")
+    @ApiResponse(responseCode = "503", description = "로그인 요청 폭주 (Retry-After 후 재시도)")
     @PostMapping("/login")
     public ResponseEntity<ApiResponseDto<LoginResponseDto>> login(
             @Valid @RequestBody LoginRequestDto loginRequest,
@@ -68,7 +76,7 @@ public class AuthRestController {
 
         try {
             // 2. Spring Security를 통한 인증 처리
-            Authentication authentication = authenticationManager.authenticate(
+            authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             loginRequest.getUserId(),
                             loginRequest.getPassword()
@@ -79,26 +87,17 @@ public class AuthRestController {
             User user = userService.getUserByUserId(loginRequest.getUserId());
 
             // 4. JWT 토큰 생성
-            String accessToken = jwtTokenProvider.createAccessToken(authentication);
-            String refreshToken = jwtTokenProvider.createRefreshToken(authentication);
-
-            // 5. 응답 DTO 생성
-            LoginResponseDto loginResponse = new LoginResponseDto(
-                    accessToken,
-                    refreshToken,
-                    3600, // 1시간 (초 단위)
-                    user.getUserNo(),
-                    user.getUserId(),
-                    user.getName(),
-                    user.getEmail(),
-                    user.getRole()
-            );
+            // 4-5. JWT 토큰 생성 및 응답 DTO 생성
+            LoginResponseDto loginResponse = issueTokens(user);
 
             // 6. 성공 응답 반환
             return ResponseEntity.ok(
                     ApiResponseDto.success(loginResponse, "로그인이 성공적으로 완료되었습니다.")
             );
 
+        } catch (PasswordHashingRejectedException e) {
+            // 해싱 풀 포화 → RestExceptionHandler에서 503 응답
+            throw e;
         } catch (Exception e) {
             // 7. 인증 실패 시 오류 응답
             return ResponseEntity.badRequest()
@@ -110,6 +109,115 @@ public class AuthRestController {
         }
     }
 
+    /**
+     * 토큰 재발급 API
+     *
+     * 특징:
+     * - 비밀번호 확인(BCrypt) 없이 Refresh Token으로 새 Access/Refresh Token 발급
+     * - 사용한 Refresh Token의 jti는 즉시 폐기 (같은 토큰으로 두 번 재발급 불가)
+     * - 권한 변경이 반영되도록 사용자 정보는 다시 조회
+     *
+     * @param refreshRequest Refresh Token
+     * @param bindingResult 입력값 검증 결과
+     * @return 새 토큰과 사용자 정보
+     */
+    @Operation(summary = "토큰 재발급", description = "Refresh Token으로 새 Access/Refresh Token을 발급합니다 (사용한 Refresh Token은 폐기)")
+    @ApiResponse(responseCode = "200", description = "재발급 성공")
+    @ApiResponse(responseCode = "400", description = "입력값 오류")
+    @ApiResponse(responseCode = "401", description = "유효하지 않거나 이미 사용된 Refresh Token")
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponseDto<LoginResponseDto>> refresh(
+            @Valid @RequestBody RefreshTokenRequestDto refreshRequest,
+            BindingResult bindingResult) {
+
+        // 1. 입력값 검증 오류 확인
+        if (bindingResult.hasErrors()) {
+            String errorMessage = bindingResult.getAllErrors().get(0).getDefaultMessage();
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(errorMessage, "VALIDATION_ERROR", "입력값을 확인해주세요."));
+        }
+
+        // 2. Refresh Token 검증 (서명/만료/폐기 여부, 종류) 후 jti 폐기
+        // 동시에 같은 토큰으로 요청해도 폐기에 성공한 한 요청만 재발급됨
+        VerifiedToken verified = jwtTokenProvider.verify(refreshRequest.getRefreshToken());
+        if (verified == null || !verified.isRefreshToken() || !jwtTokenProvider.revoke(verified)) {
+            return invalidRefreshToken();
+        }
+
+        try {
+            // 3. 사용자 정보 재조회 (탈퇴/권한 변경 반영) 후 새 토큰 발급
+            User user = userService.getUserByUserId(verified.principal().userId());
+            return ResponseEntity.ok(
+                    ApiResponseDto.success(issueTokens(user), "토큰이 재발급되었습니다.")
+            );
+        } catch (UsernameNotFoundException e) {
+            return invalidRefreshToken();
+        }
+    }
+
+    /**
+     * 로그아웃 API
+     *
+     * 특징:
+     * - Authorization 헤더의 Access Token과 본문의 Refresh Token(선택)을 만료 시각까지 폐기
+     * - 이미 만료/폐기된 토큰이어도 성공 응답 (여러 번 호출해도 같은 결과)
+     *
+     * @param authorization Authorization 헤더 (Bearer {accessToken})
+     * @param logoutRequest Refresh Token (선택)
+     * @return 로그아웃 결과
+     */
+    @Operation(summary = "로그아웃", description = "Access Token과 Refresh Token을 폐기합니다")
+    @ApiResponse(responseCode = "200", description = "로그아웃 성공")
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponseDto<String>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequestDto logoutRequest) {
+
+        // 1. Access Token 폐기
+        if (StringUtils.hasText(authorization) && authorization.startsWith("Bearer ")) {
+            revokeIfValid(authorization.substring(7));
+        }
+
+        // 2. Refresh Token 폐기 (전달된 경우)
+        if (logoutRequest != null && StringUtils.hasText(logoutRequest.getRefreshToken())) {
+            revokeIfValid(logoutRequest.getRefreshToken());
+        }
+
+        return ResponseEntity.ok(ApiResponseDto.success("로그아웃되었습니다."));
+    }
+
+    /**
+     * 사용자 정보로 Access/Refresh Token을 발급하여 응답 DTO 생성
+     */
+    private LoginResponseDto issueTokens(User user) {
+        return new LoginResponseDto(
+                jwtTokenProvider.createAccessToken(user),
+                jwtTokenProvider.createRefreshToken(user),
+                jwtTokenProvider.getAccessTokenExpirationSeconds(),
+                user.getUserNo(),
+                user.getUserId(),
+                user.getName(),
+                user.getEmail(),
+                user.getRole()
+        );
+    }
+
+    private void revokeIfValid(String token) {
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+        if (verified != null) {
+            jwtTokenProvider.revoke(verified);
+        }
+    }
+
+    private ResponseEntity<ApiResponseDto<LoginResponseDto>> invalidRefreshToken() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponseDto.error(
+                        "유효하지 않거나 이미 사용된 Refresh Token입니다.",
+                        "INVALID_REFRESH_TOKEN",
+                        "다시 로그인해주세요."
+                ));
+    }
+
     /**
      * 회원가입 API
      *
@@ -161,6 +269,9 @@ public class AuthRestController {
                     ApiResponseDto.success("회원가입이 성공적으로 완료되었습니다.")
             );
 
+        } catch (PasswordHashingRejectedException e) {
+            // 해싱 풀 포화 → RestExceptionHandler에서 503 응답
+            throw e;
         } catch (IllegalStateException e) {
             // 6. 중복 아이디 등 비즈니스 로직 오류
             return ResponseEntity.badRequest()
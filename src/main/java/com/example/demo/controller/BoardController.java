@@ -1,7 +1,6 @@
 package com.example.demo.controller;
 
 import java.security.Principal;
-import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
@@ -14,12 +13,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import com.example.demo.dto.BoardDetailResponseDto;
 import com.example.demo.dto.BoardListResponseDto;
 import com.example.demo.dto.CommentResponseDto;
+import com.example.demo.dto.CursorPageResponseDto;
 import com.example.demo.entity.Board;
 import com.example.demo.service.BoardService;
 import com.example.demo.service.CommentService;
 import com.example.demo.service.UserService;
+import com.example.demo.util.ViewerKeyUtil;
 
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 @Controller
@@ -30,6 +32,10 @@ public class BoardController {
 	private final BoardService boardService;
 	private final UserService userService;
 	private final CommentService commentService;
+
+	// 상세 화면에서 처음 보여줄 댓글 수
+	private static final int COMMENT_PAGE_SIZE = 50;
+
 	@GetMapping("/") 
 	public String root(Principal principal, Model model) {
 	    if (principal != null) {
@@ -80,22 +86,26 @@ public class BoardController {
 	// BoardController.java (getBoardDetail 메서드 수정)
 
 	@GetMapping("/detail")
-	public String getBoardDetail(@RequestParam("id") Long boardNo, Model model, Principal principal) { 
+	public String getBoardDetail(@RequestParam("id") Long boardNo, Model model, Principal principal,
+	                             HttpServletRequest request) { 
 	    
-	    // 1. 게시글 조회 (DTO 반환, Service 내부에서 조회수 증가까지 처리됨)
-	    BoardDetailResponseDto boardDetail = boardService.getBoardDetail(boardNo); // 🚨 DTO 반환
+	    // 1. 게시글 조회 (DTO 반환, Service 내부에서 조회수/고유 방문자 집계까지 처리됨)
+	    String viewerKey = ViewerKeyUtil.resolve(principal != null ? principal.getName() : null, request);
+	    BoardDetailResponseDto boardDetail = boardService.getBoardDetail(boardNo, viewerKey); // 🚨 DTO 반환
 
 	    // 2. 🚨 조회수 증가 호출 제거 🚨
 	    //    boardService.increaseViewCount(board); // <-- 이 줄은 삭제합니다.
 	    
 
-		// 3. 댓글 목록 조회 (기존 로직 유지)
+		// 3. 댓글 첫 페이지 조회
 	    //    댓글은 BoardDetailResponseDto에 포함시키지 않고 별도로 조회합니다.
-	    List<CommentResponseDto> commentList = commentService.getCommentList(boardNo);
+	    //    다음 페이지는 화면의 [댓글 더 보기]가 nextCursor로 댓글 API를 호출해 이어 붙입니다.
+	    CursorPageResponseDto<CommentResponseDto> commentPage = commentService.getCommentPage(boardNo, null, COMMENT_PAGE_SIZE);
 	    
 	    // 모델에 담기
 	    model.addAttribute("board", boardDetail); // 🚨 DTO를 'board'라는 이름으로 Model에 담습니다.
-	    model.addAttribute("commentList", commentList);
+	    model.addAttribute("commentList", commentPage.getContent());
+	    model.addAttribute("commentNextCursor", commentPage.getNextCursor());
 	    
 	    // 4. 현재 로그인 사용자 정보도 Model 에 담기 (기존 로직 유지)
 	    if (principal != null) {
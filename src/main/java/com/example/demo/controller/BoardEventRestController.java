@@ -0,0 +1,88 @@
+package com.example.demo.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.demo.service.BoardEventService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 실시간 활동 SSE 컨트롤러
+ *
+ * 역할:
+ * 1. 게시글별 활동 스트림 (댓글 작성/수정/삭제, 좋아요 수, 게시글 수정/삭제)
+ * 2. 전체 게시판 활동 피드
+ * 3. 댓글/좋아요 주기적 폴링을 대체
+ */
+@Tag(name = "📡 Board Events", description = "게시글 실시간 활동 (Server-Sent Events)")
+@RestController
+@RequestMapping("/api/v1/boards")
+@RequiredArgsConstructor
+public class BoardEventRestController {
+
+    private final BoardEventService boardEventService;
+
+    /**
+     * 전체 게시판 활동 구독 API
+     *
+     * GET /api/v1/boards/events
+     *
+     * 특징:
+     * - 인증 불필요
+     * - 주기마다 "activity" 이벤트 1개 (해당 주기에 활동이 있었던 게시글 목록)
+     * - 전체 또는 클라이언트(IP)별 구독자 수 상한 초과 시 503
+     */
+    @Operation(summary = "전체 활동 구독", description = "게시판 전체 활동을 SSE로 구독합니다")
+    @ApiResponse(responseCode = "200", description = "구독 시작 (text/event-stream)")
+    @ApiResponse(responseCode = "503", description = "구독자 수 초과")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeAll(HttpServletRequest request) {
+        return toResponse(boardEventService.subscribeAll(request.getRemoteAddr()));
+    }
+
+    /**
+     * 게시글 활동 구독 API
+     *
+     * GET /api/v1/boards/{boardNo}/events
+     *
+     * 특징:
+     * - 인증 불필요
+     * - 주기마다 게시글당 최대 1개의 "board-activity" 이벤트 (여러 변경을 합쳐서 전달)
+     * - 없는 게시글이면 404
+     * - 전체 또는 클라이언트(IP)별 구독자 수 상한 초과 시 503
+     */
+    @Operation(summary = "게시글 활동 구독", description = "특정 게시글의 댓글/좋아요/수정 활동을 SSE로 구독합니다")
+    @ApiResponse(responseCode = "200", description = "구독 시작 (text/event-stream)")
+    @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+    @ApiResponse(responseCode = "503", description = "구독자 수 초과")
+    @GetMapping(value = "/{boardNo}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeBoard(
+            @Parameter(description = "게시글 번호") @PathVariable Long boardNo,
+            HttpServletRequest request) {
+        if (!boardEventService.boardExists(boardNo)) {
+            return ResponseEntity.notFound().build();
+        }
+        return toResponse(boardEventService.subscribe(boardNo, request.getRemoteAddr()));
+    }
+
+    private ResponseEntity<SseEmitter> toResponse(SseEmitter emitter) {
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "30")
+                    .build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
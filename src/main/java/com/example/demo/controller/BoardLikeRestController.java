@@ -1,19 +1,24 @@
 package com.example.demo.controller;
 
+import java.util.Map;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import com.example.demo.dto.ApiResponseDto;
+import com.example.demo.dto.BoardLikeStatusBatchRequestDto;
 import com.example.demo.dto.BoardLikeStatusDto;
 import com.example.demo.dto.BoardLikeToggleDto;
-import com.example.demo.entity.User;
+import com.example.demo.dto.BoardLikerResponseDto;
+import com.example.demo.dto.CursorPageResponseDto;
+import com.example.demo.jwt.CurrentUser;
+import com.example.demo.jwt.JwtUserPrincipal;
 import com.example.demo.service.BoardLikeService;
-import com.example.demo.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -21,18 +26,17 @@ import lombok.RequiredArgsConstructor;
  */
 @Tag(name = "❤️ BoardLike", description = "게시글 좋아요 API")
 @RestController
-@RequestMapping("/api/v1/boards/{boardNo}/like")
+@RequestMapping("/api/v1/boards")
 @RequiredArgsConstructor
 public class BoardLikeRestController {
 
     private final BoardLikeService boardLikeService;
-    private final UserService userService;
 
     /**
      * 좋아요 토글 (추가/취소)
      *
      * @param boardNo 게시글 번호
-     * @param authentication JWT 인증 정보
+     * @param currentUser JWT 토큰의 사용자 정보 (사용자 조회 없음)
      * @return BoardLikeToggleDto 토글 결과
      */
     @Operation(summary = "좋아요 토글",
@@ -41,18 +45,14 @@ public class BoardLikeRestController {
     @ApiResponse(responseCode = "401", description = "인증 필요")
     @ApiResponse(responseCode = "404", description = "게시글 또는 사용자를 찾을 수 없음")
     @SecurityRequirement(name = "bearerAuth")
-    @PostMapping
+    @PostMapping("/{boardNo}/like")
     public ResponseEntity<ApiResponseDto<BoardLikeToggleDto>> toggleLike(
             @Parameter(description = "게시글 번호", example = "1")
             @PathVariable Long boardNo,
-            Authentication authentication) {
-
-        // JWT에서 사용자 ID 추출
-        String userId = authentication.getName();
-        User user = userService.getUserByUserId(userId);
+            @CurrentUser JwtUserPrincipal currentUser) {
 
         // 좋아요 토글 처리
-        BoardLikeToggleDto result = boardLikeService.toggleLike(boardNo, user.getUserNo());
+        BoardLikeToggleDto result = boardLikeService.toggleLike(boardNo, currentUser.userNo());
 
         return ResponseEntity.ok(ApiResponseDto.success(result));
     }
@@ -61,7 +61,7 @@ public class BoardLikeRestController {
      * 좋아요 상태 조회
      *
      * @param boardNo 게시글 번호
-     * @param authentication JWT 인증 정보
+     * @param currentUser JWT 토큰의 사용자 정보 (사용자 조회 없음)
      * @return BoardLikeStatusDto 현재 좋아요 상태
      */
     @Operation(summary = "좋아요 상태 조회",
@@ -69,18 +69,70 @@ public class BoardLikeRestController {
     @ApiResponse(responseCode = "200", description = "조회 성공")
     @ApiResponse(responseCode = "401", description = "인증 필요")
     @SecurityRequirement(name = "bearerAuth")
-    @GetMapping
+    @GetMapping("/{boardNo}/like")
     public ResponseEntity<ApiResponseDto<BoardLikeStatusDto>> getLikeStatus(
             @Parameter(description = "게시글 번호", example = "1")
             @PathVariable Long boardNo,
-            Authentication authentication) {
-
-        // JWT에서 사용자 ID 추출
-        String userId = authentication.getName();
-        User user = userService.getUserByUserId(userId);
+            @CurrentUser JwtUserPrincipal currentUser) {
 
         // 좋아요 상태 조회
-        BoardLikeStatusDto result = boardLikeService.getLikeStatus(boardNo, user.getUserNo());
+        BoardLikeStatusDto result = boardLikeService.getLikeStatus(boardNo, currentUser.userNo());
+
+        return ResponseEntity.ok(ApiResponseDto.success(result));
+    }
+
+    /**
+     * 좋아요 누른 사람 목록 조회 (최신순, 커서 페이징)
+     *
+     * GET /api/v1/boards/{boardNo}/likes?cursor={cursor}&size=50
+     *
+     * @param boardNo 게시글 번호
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 마스킹된 사용자 목록 페이지
+     */
+    @Operation(summary = "좋아요 누른 사람 목록",
+               description = "게시글에 좋아요를 누른 사용자 목록을 최신순으로 조회 (사용자 정보는 마스킹)")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+    @GetMapping("/{boardNo}/likes")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<BoardLikerResponseDto>>> getLikers(
+            @Parameter(description = "게시글 번호", example = "1")
+            @PathVariable Long boardNo,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "50") int size) {
+
+        CursorPageResponseDto<BoardLikerResponseDto> result = boardLikeService.getLikerPage(boardNo, cursor, size);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(result));
+    }
+
+    /**
+     * 좋아요 상태 일괄 조회 (목록 화면용)
+     * 게시글마다 상태 조회를 호출하지 않고 한 번의 요청으로 처리합니다.
+     *
+     * @param request 게시글 번호 목록 (최대 500개)
+     * @param currentUser JWT 토큰의 사용자 정보 (사용자 조회 없음)
+     * @return 게시글 번호 → 좋아요 상태
+     */
+    @Operation(summary = "좋아요 상태 일괄 조회",
+               description = "여러 게시글에 대한 현재 사용자의 좋아요 여부 및 좋아요 수를 한 번에 조회 (최대 500개)")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "게시글 번호 목록이 비어 있거나 500개 초과")
+    @ApiResponse(responseCode = "401", description = "인증 필요")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/likes/status")
+    public ResponseEntity<ApiResponseDto<Map<Long, BoardLikeStatusDto>>> getLikeStatuses(
+            @Valid @RequestBody BoardLikeStatusBatchRequestDto request,
+            @CurrentUser JwtUserPrincipal currentUser) {
+
+        // 좋아요 상태 일괄 조회
+        Map<Long, BoardLikeStatusDto> result = boardLikeService.getLikeStatuses(request.getBoardNos(), currentUser.userNo());
 
         return ResponseEntity.ok(ApiResponseDto.success(result));
     }
@@ -2,6 +2,8 @@ package com.example.demo.controller;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 import org.springframework.data.domain.Page;
 import org.springframework.http.CacheControl;
@@ -16,11 +18,18 @@ import com.example.demo.dto.BoardCreateRequestDto;
 import com.example.demo.dto.BoardDetailResponseDto;
 import com.example.demo.dto.BoardListResponseDto;
 import com.example.demo.dto.BoardUpdateRequestDto;
+import com.example.demo.dto.BoardUpdateResponseDto;
+import com.example.demo.dto.BoardViewResponseDto;
+import com.example.demo.dto.CursorPageResponseDto;
+import com.example.demo.dto.SliceResponseDto;
 import com.example.demo.entity.Board;
-import com.example.demo.entity.User;
+import com.example.demo.jwt.CurrentUser;
+import com.example.demo.jwt.JwtUserPrincipal;
+import com.example.demo.service.BoardCollectionVersion;
 import com.example.demo.service.BoardService;
-import com.example.demo.service.UserService;
+import com.example.demo.service.BoardViewService;
 import com.example.demo.util.CacheUtil;
+import com.example.demo.util.ViewerKeyUtil;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -49,9 +58,8 @@ public class BoardRestController {
     // 게시글 비즈니스 로직 처리를 위한 서비스
     private final BoardService boardService;
     private final CacheUtil cacheUtil; 
-
-    // 사용자 정보 조회를 위한 서비스 (JWT에서 추출한 userId로 User 엔티티 조회)
-    private final UserService userService;
+    private final BoardCollectionVersion boardCollectionVersion;
+    private final BoardViewService boardViewService;
 
     /**
      * 게시글 목록 조회 API
@@ -62,23 +70,100 @@ public class BoardRestController {
      * - 인증 불필요 (모든 사용자 접근 가능)
      * - 페이징 처리 지원
      * - 최신 게시글 순으로 정렬
+     * - 목록 버전 기반 ETag 제공 (변경 없으면 DB 조회 없이 304)
      */
     @Operation(summary = "게시글 목록 조회", description = "페이징된 게시글 목록을 조회합니다")
     @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "변경 없음")
     @GetMapping  // GET /api/v1/boards
     public ResponseEntity<ApiResponseDto<Page<BoardListResponseDto>>> getBoards(
             @Parameter(description = "페이지 번호 (0부터 시작)")
             @RequestParam(defaultValue = "0") int page,  // 기본값: 첫 번째 페이지
 
             @Parameter(description = "페이지 크기")
-            @RequestParam(defaultValue = "20") int size) {  // 기본값: 20개씩
+            @RequestParam(defaultValue = "20") int size,  // 기본값: 20개씩
+            HttpServletRequest request) {
 
+        // 목록 버전 + 조회 조건으로 ETag 생성 후, 변경이 없으면 DB 조회 없이 304 응답
+        String etag = cacheUtil.generateListETag("boards", boardCollectionVersion.current(), page, size);
+        if (cacheUtil.isNotModified(etag, request.getHeader("If-None-Match"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
 
         // BoardService에서 페이징된 게시글 목록 조회
         Page<BoardListResponseDto> boards =  boardService.getBoardList(page, size, null);
 
-        // 표준화된 JSON 응답 형식으로 반환
+        // 표준화된 JSON 응답 형식으로 반환 (noCache: 매번 ETag로 재검증)
         return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(boards, "게시글 목록 조회 성공"));
+    }
+
+    /**
+     * 게시글 목록 Slice 조회 API
+     *
+     * GET /api/v1/boards/slice?page=0&size=20
+     *
+     * 특징:
+     * - 요청마다 COUNT 쿼리를 실행하지 않음 (hasNext만 제공)
+     * - 전체 개수가 필요한 UI는 캐시된 approximateTotal 사용
+     */
+    @Operation(summary = "게시글 목록 Slice 조회", description = "전체 개수 계산 없이 게시글 목록을 조회합니다 (근사 총 개수 포함)")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/slice")  // GET /api/v1/boards/slice
+    public ResponseEntity<ApiResponseDto<SliceResponseDto<BoardListResponseDto>>> getBoardSlice(
+            @Parameter(description = "페이지 번호 (0부터 시작)")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "페이지 크기")
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+
+        String etag = cacheUtil.generateListETag("boards-slice", boardCollectionVersion.current(), page, size);
+        if (cacheUtil.isNotModified(etag, request.getHeader("If-None-Match"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        SliceResponseDto<BoardListResponseDto> boards = boardService.getBoardSlice(page, size);
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(boards, "게시글 목록 조회 성공"));
+    }
+
+    /**
+     * 게시글 목록 커서 조회 API
+     *
+     * GET /api/v1/boards?after={cursor}&size=20
+     *
+     * 특징:
+     * - after 파라미터가 있으면 이 메서드가 처리 (첫 페이지는 after= 빈 값)
+     * - OFFSET 없이 boardNo 기준으로 바로 이동하므로 깊은 페이지도 일정한 속도
+     * - 전체 개수 조회(COUNT) 없음, 응답의 nextCursor로 다음 페이지 요청
+     */
+    @Operation(summary = "게시글 목록 커서 조회", description = "커서 기반으로 게시글 목록을 조회합니다 (전체 개수 미포함)")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    @GetMapping(params = "after")  // GET /api/v1/boards?after=...
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<BoardListResponseDto>>> getBoardsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)")
+            @RequestParam String after,
+
+            @Parameter(description = "페이지 크기")
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+
+        String etag = cacheUtil.generateListETag("boards-cursor", boardCollectionVersion.current(), after, size);
+        if (cacheUtil.isNotModified(etag, request.getHeader("If-None-Match"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        CursorPageResponseDto<BoardListResponseDto> boards = boardService.getBoardListByCursor(after, size);
+
+        return ResponseEntity.ok()
+                .eTag(etag)
                 .cacheControl(CacheControl.noCache())
                 .body(ApiResponseDto.success(boards, "게시글 목록 조회 성공"));
     }
@@ -92,6 +177,7 @@ public class BoardRestController {
      * - 인증 불필요
      * - 조회 시 조회수 자동 증가
      * - 존재하지 않는 게시글 시 404 오류
+     * - 조건부 요청은 버전(modifyDt)만 먼저 비교하여 304 시 본문 로드/조회수 증가 생략
      */
     @Operation(summary = "게시글 상세 조회", description = "특정 게시글의 상세 정보를 조회합니다 (조회수 증가)")
     @ApiResponse(responseCode = "200", description = "조회 성공")
@@ -100,28 +186,40 @@ public class BoardRestController {
     public ResponseEntity<ApiResponseDto<BoardDetailResponseDto>> getBoard(
             @Parameter(description = "게시글 번호")
             @PathVariable Long boardNo,
-            HttpServletRequest request) {
-
-        BoardDetailResponseDto board = boardService.getBoardDetail(boardNo);
-
-        // ETag 생성
-        String etag = cacheUtil.generateETag(board.getBoardNo(), board.getModifyDt());
-        Instant lastModified = board.getModifyDt().atZone(java.time.ZoneId.systemDefault()).toInstant();
+            HttpServletRequest request,
+            Authentication authentication) {
 
         // 조건부 요청 헤더 확인
         String ifNoneMatch = request.getHeader("If-None-Match");
         long ifModifiedSince = request.getDateHeader("If-Modified-Since");
 
-        // 304 Not Modified 응답 조건 확인
-        if (cacheUtil.isNotModified(etag, ifNoneMatch) ||
-            cacheUtil.isNotModified(lastModified.toEpochMilli(), ifModifiedSince)) {
+        // 조건부 요청이면 버전(modifyDt)만 조회하여 먼저 비교 (메모리 캐시 우선)
+        if (ifNoneMatch != null || ifModifiedSince != -1) {
+            LocalDateTime version = boardService.getBoardVersion(boardNo);
 
-            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
-                    .eTag(etag)
-                    .lastModified(lastModified)
-                    .build();
+            if (version != null) {
+                String etag = cacheUtil.generateETag(boardNo, version);
+                Instant lastModified = version.atZone(ZoneId.systemDefault()).toInstant();
+
+                // 304 Not Modified 응답 조건 확인 (본문/작성자 조회, 조회수 증가 없음)
+                if (cacheUtil.isNotModified(etag, ifNoneMatch) ||
+                    cacheUtil.isNotModified(lastModified.toEpochMilli(), ifModifiedSince)) {
+
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(etag)
+                            .lastModified(lastModified)
+                            .build();
+                }
+            }
         }
 
+        String viewerKey = ViewerKeyUtil.resolve(authentication != null ? authentication.getName() : null, request);
+        BoardDetailResponseDto board = boardService.getBoardDetail(boardNo, viewerKey);
+
+        // ETag 생성
+        String etag = cacheUtil.generateETag(board.getBoardNo(), board.getModifyDt());
+        Instant lastModified = board.getModifyDt().atZone(ZoneId.systemDefault()).toInstant();
+
         // 200 OK 응답 (캐시 헤더 포함)
         return ResponseEntity.ok()
                 .eTag(etag)
@@ -130,6 +228,37 @@ public class BoardRestController {
                 .body(ApiResponseDto.success(board, "게시글 조회 성공"));
     }
 
+    /**
+     * 게시글 통합 조회 API
+     *
+     * GET /api/v1/boards/{boardNo}/view
+     *
+     * 특징:
+     * - 인증 선택 (토큰이 있으면 좋아요 상태 포함)
+     * - 상세/댓글/좋아요 상태를 동시에 조회하여 한 번에 응답
+     * - 사용자 확인 1회, 게시글 로드 1회
+     */
+    @Operation(summary = "게시글 통합 조회", description = "게시글 상세, 댓글 목록, 좋아요 상태를 한 번에 조회합니다 (조회수 증가)")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+    @GetMapping("/{boardNo}/view")
+    public ResponseEntity<ApiResponseDto<BoardViewResponseDto>> getBoardView(
+            @Parameter(description = "게시글 번호")
+            @PathVariable Long boardNo,
+            HttpServletRequest request,
+            @CurrentUser JwtUserPrincipal currentUser) {
+
+        // 토큰의 사용자 번호 사용 (사용자 조회 없음, 비로그인이면 null)
+        Long userNo = currentUser != null ? currentUser.userNo() : null;
+        String viewerKey = ViewerKeyUtil.resolve(currentUser != null ? currentUser.userId() : null, request);
+
+        BoardViewResponseDto view = boardViewService.getBoardView(boardNo, viewerKey, userNo);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(view, "게시글 조회 성공"));
+    }
+
     /**
      * 게시글 작성 API
      *
@@ -150,16 +279,10 @@ public class BoardRestController {
     @PostMapping  // POST /api/v1/boards
     public ResponseEntity<ApiResponseDto<Board>> createBoard(
             @Valid @RequestBody BoardCreateRequestDto createRequest,  // JSON → DTO 변환 및 검증
-            Authentication authentication) {  // Spring Security에서 현재 로그인 사용자 정보 주입
-
-        // JWT 토큰에서 추출한 사용자 ID
-        String userId = authentication.getName();
-
-        // 사용자 ID로 User 엔티티 조회 (userNo 필요)
-        User user = userService.getUserByUserId(userId);
+            @CurrentUser JwtUserPrincipal currentUser) {  // JWT 토큰의 사용자 번호/권한 (사용자 조회 없음)
 
         // BoardService에서 게시글 생성 처리
-        Board board = boardService.createBoardForApi(createRequest, user.getUserNo());
+        Board board = boardService.createBoardForApi(createRequest, currentUser.userNo());
 
         // HTTP 201 Created 상태코드와 함께 생성된 게시글 정보 반환
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -186,22 +309,20 @@ public class BoardRestController {
     @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
     @PreAuthorize("hasRole('GUEST') or hasRole('ADMIN')")
     @PutMapping("/{boardNo}")  // PUT /api/v1/boards/1
-    public ResponseEntity<ApiResponseDto<Board>> updateBoard(
+    public ResponseEntity<ApiResponseDto<BoardUpdateResponseDto>> updateBoard(
             @Parameter(description = "게시글 번호")
             @PathVariable Long boardNo,
 
             @Valid @RequestBody BoardUpdateRequestDto updateRequest,
-            Authentication authentication) {
-
-        String userId = authentication.getName();
+            @CurrentUser JwtUserPrincipal currentUser) {
 
-        // BoardService에서 권한 체크 및 수정 처리
-        // 작성자가 아니면 IllegalStateException 발생 → RestExceptionHandler에서 403 처리
-        Board board = boardService.updateBoardForApi(boardNo, updateRequest, userId);
+        // BoardService에서 작성자 조건부 UPDATE 한 번으로 권한 체크 및 수정 처리
+        // 작성자가 아니면 UnauthorizedAccessException → 403, 게시글이 없으면 ResourceNotFoundException → 404
+        BoardUpdateResponseDto updated = boardService.updateBoardForApi(boardNo, updateRequest, currentUser.userNo());
 
         return ResponseEntity.ok()
                 .cacheControl(CacheControl.noCache())
-                .body(ApiResponseDto.success(board, "게시글 수정 성공"));
+                .body(ApiResponseDto.success(updated, "게시글 수정 성공"));
     }
 
     /**
@@ -225,18 +346,15 @@ public class BoardRestController {
     public ResponseEntity<ApiResponseDto<Void>> deleteBoard(
             @Parameter(description = "게시글 번호")
             @PathVariable Long boardNo,
-            Authentication authentication) {
-
-        String userId = authentication.getName();
-        User user = userService.getUserByUserId(userId);
+            @CurrentUser JwtUserPrincipal currentUser) {
 
         // BoardService에서 권한 체크 및 삭제 처리
-        // userId와 Role을 모두 전달하여 작성자 또는 ADMIN 권한 확인
-        boardService.deleteBoardForApi(boardNo, userId, user.getRole());
+        // 토큰의 사용자 번호와 Role을 전달하여 작성자 또는 ADMIN 권한 확인 (아니면 403 / 게시글이 없으면 404)
+        boardService.deleteBoardForApi(boardNo, currentUser.userNo(), currentUser.role());
 
         // 삭제는 반환할 데이터가 없으므로 null과 성공 메시지만 반환
         return ResponseEntity.ok()
                 .cacheControl(CacheControl.noCache())
                 .body(ApiResponseDto.success(null, "게시글 삭제 성공"));
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
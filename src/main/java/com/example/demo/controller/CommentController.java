@@ -93,11 +93,12 @@ public class CommentController {
 
     /**
      * 댓글 생성 요청 처리 (POST)
-     * URL 예시: /comment/create/123
+     * URL 예시: /comment/create/123 (답글이면 parentNo 파라미터 포함)
      */
     @PostMapping("/comment/create/{boardNo}")
     public String createComment(@PathVariable("boardNo") Long boardNo,
                                 @RequestParam("content") String content,
+                                @RequestParam(value = "parentNo", required = false) Long parentNo,
                                 Principal principal) {
         
         // 1. 로그인 확인 (기존 로직 유지)
@@ -113,7 +114,7 @@ public class CommentController {
                 .orElseThrow(() -> new IllegalArgumentException("게시글 번호에 해당하는 게시글을 찾을 수 없습니다."));
 
         // 🚨 4. Service 호출: Board 객체를 전달하도록 수정 🚨
-        commentService.createComment(board, content, authorNo);
+        commentService.createComment(board, content, authorNo, parentNo);
 
         // 5. 상세 페이지로 리다이렉트 (기존 로직 유지)
         return "redirect:/board/detail?id=" + boardNo;
@@ -1,21 +1,19 @@
 package com.example.demo.controller;
 
-import java.util.List;
-
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import com.example.demo.dto.ApiResponseDto;
 import com.example.demo.dto.CommentCreateRequestDto;
 import com.example.demo.dto.CommentResponseDto;
+import com.example.demo.dto.CursorPageResponseDto;
 import com.example.demo.entity.Comment;
-import com.example.demo.entity.User;
+import com.example.demo.jwt.CurrentUser;
+import com.example.demo.jwt.JwtUserPrincipal;
 import com.example.demo.service.CommentService;
-import com.example.demo.service.UserService;
 
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -42,30 +40,66 @@ import lombok.RequiredArgsConstructor;
 public class CommentRestController {
 
     private final CommentService commentService;
-    private final UserService userService;
     /**
      * 댓글 목록 조회 API
      *
-     * GET /api/v1/boards/{boardNo}/comments
+     * GET /api/v1/boards/{boardNo}/comments?after={cursor}&size=50&collapsed=false
      *
      * 특징:
      * - 인증 불필요 (모든 사용자 접근 가능)
-     * - 생성일시 오름차순 정렬
-     * - 특정 게시글의 모든 댓글 조회
+     * - 스레드 출력 순서 (부모 댓글 바로 다음에 답글, 같은 단계는 작성 순)
+     * - collapsed=true면 최상위 댓글만 반환 (답글은 replyCount로 표시, /replies로 펼침)
+     * - 커서 방식 페이징 (응답의 nextCursor를 after로 보내 다음 페이지 조회)
      */
-    @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글 목록을 조회합니다")
+    @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글 목록을 커서 기반으로 조회합니다")
     @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 커서")
     @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
     @GetMapping
-    public ResponseEntity<ApiResponseDto<List<CommentResponseDto>>> getComments(
-            @Parameter(description = "게시글 번호") @PathVariable Long boardNo) {
-
-    	List<CommentResponseDto> comments = commentService.getCommentList(boardNo);
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<CommentResponseDto>>> getComments(
+            @Parameter(description = "게시글 번호") @PathVariable Long boardNo,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "답글 접기 (최상위 댓글만 조회)")
+            @RequestParam(defaultValue = "false") boolean collapsed) {
+
+    	CursorPageResponseDto<CommentResponseDto> comments = commentService.getCommentPage(boardNo, after, size, collapsed);
     	return ResponseEntity.ok()
     			.cacheControl(CacheControl.noCache())
                 .body(ApiResponseDto.success(comments, "댓글 목록 조회 성공"));
     }
 
+    /**
+     * 답글 목록 조회 API (접힌 답글 펼치기)
+     *
+     * GET /api/v1/boards/{boardNo}/comments/{commentNo}/replies?after={cursor}&size=50
+     *
+     * 특징:
+     * - 인증 불필요
+     * - 해당 댓글의 모든 자손 답글을 스레드 출력 순서로 반환 (경로 범위 조회 한 번)
+     * - 커서 방식 페이징
+     */
+    @Operation(summary = "답글 목록 조회", description = "특정 댓글의 하위 답글 전체를 스레드 순서로 조회합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음")
+    @GetMapping("/{commentNo}/replies")
+    public ResponseEntity<ApiResponseDto<CursorPageResponseDto<CommentResponseDto>>> getReplies(
+            @Parameter(description = "게시글 번호") @PathVariable Long boardNo,
+            @Parameter(description = "댓글 번호") @PathVariable Long commentNo,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "50") int size) {
+
+        CursorPageResponseDto<CommentResponseDto> replies = commentService.getReplyPage(boardNo, commentNo, after, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponseDto.success(replies, "답글 목록 조회 성공"));
+    }
+
     /**
      * 댓글 작성 API
      *
@@ -88,14 +122,10 @@ public class CommentRestController {
     public ResponseEntity<ApiResponseDto<Comment>> createComment(
             @Parameter(description = "게시글 번호") @PathVariable Long boardNo,
             @Valid @RequestBody CommentCreateRequestDto createRequest,
-            Authentication authentication) {
-
-        // JWT 토큰에서 사용자 정보 추출
-        String userId = authentication.getName();
-        User user = userService.getUserByUserId(userId);
+            @CurrentUser JwtUserPrincipal currentUser) {
 
-        // 댓글 작성 처리
-        Comment comment = commentService.createCommentForApi(boardNo, createRequest, user.getUserNo());
+        // 댓글 작성 처리 (작성자 번호는 JWT 토큰에서, 사용자 조회 없음)
+        Comment comment = commentService.createCommentForApi(boardNo, createRequest, currentUser.userNo());
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .cacheControl(CacheControl.noCache())
@@ -116,13 +146,10 @@ public class CommentRestController {
             @Parameter(description = "게시글 번호") @PathVariable Long boardNo,
             @Parameter(description = "댓글 번호") @PathVariable Long commentNo,
             @Valid @RequestBody CommentCreateRequestDto commentRequest,
-            Authentication authentication) {
+            @CurrentUser JwtUserPrincipal currentUser) {
 
-        String userId = authentication.getName();
-        User user = userService.getUserByUserId(userId);
-
-        // 댓글 수정 처리 (권한 체크 포함)
-        commentService.updateCommentForApi(boardNo, commentNo, commentRequest.getContent(), userId, user.getRole());
+        // 댓글 수정 처리 (작성자 조건부 UPDATE 한 번, 작성자가 아니면 403 / 댓글이 없으면 404)
+        commentService.updateCommentForApi(boardNo, commentNo, commentRequest.getContent(), currentUser.userNo());
 
         return ResponseEntity.ok()
                 .cacheControl(CacheControl.noCache())
@@ -151,14 +178,10 @@ public class CommentRestController {
     public ResponseEntity<ApiResponseDto<Void>> deleteComment(
             @Parameter(description = "게시글 번호") @PathVariable Long boardNo,
             @Parameter(description = "댓글 번호") @PathVariable Long commentNo,
-            Authentication authentication) {
-
-        // JWT 토큰에서 사용자 정보 추출
-        String userId = authentication.getName();
-        User user = userService.getUserByUserId(userId);
+            @CurrentUser JwtUserPrincipal currentUser) {
 
-        // 댓글 삭제 처리 (권한 체크 포함)
-        commentService.deleteCommentForApi(boardNo, commentNo, userId, user.getRole());
+        // 댓글 삭제 처리 (권한 체크 포함, 작성자/ADMIN이 아니면 403 / 댓글이 없으면 404)
+        commentService.deleteCommentForApi(boardNo, commentNo, currentUser.userNo(), currentUser.role());
 
         return ResponseEntity.ok()
                 .cacheControl(CacheControl.noCache())
@@ -2,6 +2,7 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.ApiResponseDto;
 import com.example.demo.dto.UserListResponseDto;
+import com.example.demo.dto.UserPasswordUpdateRequestDto;
 import com.example.demo.dto.UserRoleUpdateRequestDto;
 import com.example.demo.entity.User;
 import com.example.demo.service.UserService;
@@ -19,6 +20,7 @@ import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,7 +34,8 @@ import java.util.stream.Collectors;
  * 역할:
  * 1. 회원 목록 조회 API (관리자 전용)
  * 2. 권한 변경 API (관리자 전용)
- * 3. 내 정보 조회 API (로그인한 사용자)
+ * 3. 비밀번호 변경 API (관리자 전용)
+ * 4. 내 정보 조회 API (로그인한 사용자)
  *
  * 모든 API는 JWT 토큰 인증 필요
  */
@@ -166,6 +169,63 @@ public class UserRestController {
         }
     }
 
+    /**
+     * 사용자 비밀번호 변경 API (관리자 전용)
+     *
+     * @param userNo 비밀번호를 변경할 사용자 번호
+     * @param request 변경할 비밀번호 정보
+     * @param bindingResult 입력값 검증 결과
+     * @return 비밀번호 변경 결과 응답
+     */
+    @Operation(summary = "사용자 비밀번호 변경", description = "사용자의 비밀번호를 변경합니다 (ADMIN 전용)")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponse(responseCode = "200", description = "변경 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    @ApiResponse(responseCode = "403", description = "권한 없음")
+    @PutMapping("/{userNo}/password")
+    @PreAuthorize("hasRole('ADMIN')")  // ADMIN 권한만 접근 가능
+    public ResponseEntity<ApiResponseDto<String>> updatePassword(
+            @PathVariable Long userNo,
+            @Valid @RequestBody UserPasswordUpdateRequestDto request,
+            BindingResult bindingResult) {
+
+        // 1. 입력값 검증 오류 확인
+        if (bindingResult.hasErrors()) {
+            String errorMessage = bindingResult.getAllErrors().get(0).getDefaultMessage();
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(errorMessage, "VALIDATION_ERROR", null));
+        }
+
+        // 2. 비밀번호 확인 일치 여부
+        if (!request.getPassword().equals(request.getPasswordConfirm())) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(
+                            "비밀번호와 비밀번호 확인이 일치하지 않습니다.",
+                            "PASSWORD_MISMATCH",
+                            null
+                    ));
+        }
+
+        try {
+            // 3. 비밀번호 변경 처리 (커밋 후 프로필 캐시에서 제거됨)
+            userService.updatePassword(userNo, request.getPassword());
+
+            // 4. 성공 응답 반환
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(ApiResponseDto.success("비밀번호가 성공적으로 변경되었습니다."));
+
+        } catch (UsernameNotFoundException e) {
+            // 5. 사용자를 찾을 수 없는 경우
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(
+                            "존재하지 않는 사용자입니다.",
+                            "USER_NOT_FOUND",
+                            "사용자 번호를 확인해주세요."
+                    ));
+        }
+    }
+
     /**
      * 내 정보 조회 API (로그인한 사용자)
      *
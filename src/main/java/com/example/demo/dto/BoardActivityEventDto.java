@@ -0,0 +1,54 @@
+package com.example.demo.dto;
+
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 실시간 활동 이벤트 DTO (SSE용)
+ *
+ * 역할:
+ * 1. 한 주기(tick) 동안 한 게시글에서 일어난 변경을 하나로 합쳐 전달
+ * 2. 클라이언트는 types를 보고 필요한 부분만 다시 조회 (주기적 폴링 대체)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL) // 좋아요 변경이 없으면 likeCount 제외
+public class BoardActivityEventDto {
+
+    /**
+     * 활동 종류
+     */
+    public enum Type {
+        BOARD_CREATED,
+        BOARD_UPDATED,
+        BOARD_DELETED,
+        COMMENT_CREATED,
+        COMMENT_UPDATED,
+        COMMENT_DELETED,
+        LIKE_CHANGED
+    }
+
+    /**
+     * 게시글 번호
+     */
+    private final Long boardNo;
+
+    /**
+     * 이번 주기에 발생한 활동 종류
+     */
+    private final Set<Type> types;
+
+    /**
+     * 최신 좋아요 수 (이번 주기에 좋아요 변경이 없으면 null)
+     */
+    private final Integer likeCount;
+
+    /**
+     * 이번 주기의 댓글 수 증감 합계
+     */
+    private final int commentDelta;
+}
@@ -45,6 +45,11 @@ public class BoardDetailResponseDto {
      */
     private Integer viewCnt;
 
+    /**
+     * 고유 방문자 수 (HyperLogLog 추정값, 새로고침 반복은 중복 집계되지 않음)
+     */
+    private Long uniqueViewCnt;
+
     /**
      * 작성자 이름
      */
@@ -0,0 +1,32 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 좋아요 상태 일괄 조회 요청 DTO
+ *
+ * 역할:
+ * 1. 목록 화면에 보이는 게시글 번호들을 한 번에 받아 좋아요 상태를 조회
+ * 2. 게시글 수 제한 (최대 500개)
+ */
+@Schema(description = "좋아요 상태 일괄 조회 요청 정보")
+@Getter
+@Setter
+public class BoardLikeStatusBatchRequestDto {
+
+    /**
+     * 조회할 게시글 번호 목록
+     * 최소 1개, 최대 500개
+     */
+    @Schema(description = "게시글 번호 목록", example = "[1, 2, 3]")
+    @NotEmpty(message = "게시글 번호는 1개 이상 필요합니다")
+    @Size(max = 500, message = "게시글 번호는 한 번에 500개까지 조회할 수 있습니다")
+    private List<@NotNull(message = "게시글 번호는 null일 수 없습니다") Long> boardNos;
+}
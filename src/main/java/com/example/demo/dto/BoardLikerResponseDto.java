@@ -0,0 +1,22 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게시글 좋아요 사용자 목록 항목 DTO
+ * "좋아요 누른 사람" 목록에 마스킹된 사용자 정보와 좋아요 일시를 전달
+ */
+@Getter
+@Builder
+public class BoardLikerResponseDto {
+
+    // 마스킹된 사용자 정보
+    private String userName;
+    private String userId;
+
+    // 좋아요 누른 일시
+    private LocalDateTime likedDt;
+}
@@ -3,6 +3,7 @@ package com.example.demo.dto;
 import com.example.demo.entity.Board;
 import com.example.demo.entity.User;
 import com.example.demo.service.UserService;
+import com.example.demo.util.MaskingUtil;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -37,6 +38,34 @@ public class BoardListResponseDto {
      */
     private String contentPreview;
 
+    /**
+     * 목록 조회 JPQL 생성자 프로젝션용 생성자
+     * BoardRepository.findBoardListRows()에서 작성자 조인 + 댓글 수 컬럼 결과를
+     * 한 번의 쿼리로 받아 마스킹까지 적용합니다.
+     *
+     * @param authorName 작성자 이름 (탈퇴 회원이면 null)
+     * @param authorUserId 작성자 ID (탈퇴 회원이면 null)
+     * @param commentCount 댓글 수 (TB_BOARD.comment_count)
+     * @param excerpt 내용 요약 (TB_BOARD.excerpt, 본문 TEXT 컬럼은 읽지 않음)
+     */
+    public BoardListResponseDto(Long boardNo, String title, Integer viewCnt,
+                                LocalDateTime createDt, LocalDateTime modifyDt, Long authorNo,
+                                String authorName, String authorUserId, Integer commentCount,
+                                String excerpt) {
+        this.boardNo = boardNo;
+        this.title = title;
+        this.viewCnt = viewCnt;
+        this.createDt = createDt;
+        this.modifyDt = modifyDt;
+        this.authorNo = authorNo;
+        this.commentCount = commentCount != null ? commentCount : 0;
+        this.contentPreview = excerpt;
+
+        // 탈퇴 회원 처리 후 마스킹 적용
+        this.authorName = MaskingUtil.maskName(authorName != null ? authorName : "탈퇴 회원");
+        this.authorUserId = MaskingUtil.maskUserId(authorUserId != null ? authorUserId : "deleted");
+    }
+
     /**
      * Board 엔티티와 UserService를 받는 생성자 (REST API용)
      *
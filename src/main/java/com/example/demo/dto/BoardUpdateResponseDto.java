@@ -0,0 +1,35 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 수정 결과 응답 DTO
+ * 수정 요청 값과 게시글 번호/수정일시로 만들어, 수정 후 게시글을 다시 조회하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BoardUpdateResponseDto {
+
+    /**
+     * 게시글 번호
+     */
+    private Long boardNo;
+
+    /**
+     * 수정된 제목
+     */
+    private String title;
+
+    /**
+     * 수정된 내용
+     */
+    private String content;
+
+    /**
+     * 수정일시 (ETag/Last-Modified 기준 값)
+     */
+    private LocalDateTime modifyDt;
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Getter;
+
+/**
+ * 게시글 통합 조회 응답 DTO (REST API용)
+ *
+ * 역할:
+ * 1. 게시글 상세, 댓글 목록, 좋아요 상태를 한 번의 응답으로 전달
+ * 2. 클라이언트의 순차 호출 3회(/boards/{no}, /comments, /like)를 1회로 줄임
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL) // 비로그인 시 likeStatus 제외
+public class BoardViewResponseDto {
+
+    /**
+     * 게시글 상세 정보
+     */
+    private final BoardDetailResponseDto board;
+
+    /**
+     * 댓글 첫 페이지 (이후 페이지는 nextCursor로 /comments?after= 조회)
+     */
+    private final CursorPageResponseDto<CommentResponseDto> comments;
+
+    /**
+     * 현재 사용자의 좋아요 상태 (비로그인 시 null)
+     */
+    private final BoardLikeStatusDto likeStatus;
+
+    public BoardViewResponseDto(BoardDetailResponseDto board, CursorPageResponseDto<CommentResponseDto> comments,
+                                BoardLikeStatusDto likeStatus) {
+        this.board = board;
+        this.comments = comments;
+        this.likeStatus = likeStatus;
+    }
+}
@@ -27,4 +27,10 @@ public class CommentCreateRequestDto {
     @NotBlank(message = "댓글 내용은 필수입니다")
     @Size(min = 1, max = 1000, message = "댓글은 1자 이상 1000자 이하로 입력해주세요")
     private String content;
+
+    /**
+     * 부모 댓글 번호 (답글 작성 시에만 지정, 최상위 댓글이면 생략)
+     */
+    @Schema(description = "부모 댓글 번호 (답글인 경우)", example = "12")
+    private Long parentNo;
 }
\ No newline at end of file
@@ -18,6 +18,11 @@ public class CommentResponseDto {
     private String authorName;
     private String authorUserId;
     private Long authorNo;
+
+    // 스레드 정보 (부모 댓글 번호, 깊이, 바로 아래 답글 수)
+    private Long parentNo;
+    private Integer depth;
+    private Integer replyCount;
     
 
 }
\ No newline at end of file
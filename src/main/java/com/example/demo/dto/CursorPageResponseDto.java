@@ -0,0 +1,45 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 커서(keyset) 페이징 응답 DTO
+ *
+ * 역할:
+ * 1. OFFSET 없이 마지막 위치부터 바로 조회한 결과를 담음
+ * 2. 전체 개수(COUNT) 대신 다음 페이지 존재 여부와 다음 커서만 제공
+ *
+ * @param <T> 목록 항목 타입
+ */
+@Getter
+public class CursorPageResponseDto<T> {
+
+    /**
+     * 현재 페이지 목록
+     */
+    private final List<T> content;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private final int size;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private final boolean hasNext;
+
+    /**
+     * 다음 페이지 요청 시 after 파라미터로 보낼 커서 (마지막 페이지면 null)
+     */
+    private final String nextCursor;
+
+    public CursorPageResponseDto(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 토큰 재발급/로그아웃 요청 DTO
+ *
+ * 역할:
+ * 1. 클라이언트가 보관 중인 Refresh Token 전달
+ * 2. 재발급 시 입력값 검증 (토큰 필수)
+ */
+@Schema(description = "Refresh Token 요청 정보")
+@Getter
+@Setter
+public class RefreshTokenRequestDto {
+
+    /**
+     * 로그인/재발급 응답으로 받은 Refresh Token
+     */
+    @Schema(description = "JWT 리프레시 토큰")
+    @NotBlank(message = "Refresh Token은 필수입니다")
+    private String refreshToken;
+}
@@ -0,0 +1,51 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * COUNT 없는 목록(Slice) 응답 DTO
+ *
+ * 역할:
+ * 1. 다음 페이지 존재 여부(hasNext)만으로 페이징 처리
+ * 2. 전체 개수가 필요한 화면을 위해 캐시된 근사 총 개수(approximateTotal)를 함께 제공
+ *
+ * @param <T> 목록 항목 타입
+ */
+@Getter
+public class SliceResponseDto<T> {
+
+    /**
+     * 현재 페이지 목록
+     */
+    private final List<T> content;
+
+    /**
+     * 현재 페이지 번호 (0부터 시작)
+     */
+    private final int page;
+
+    /**
+     * 페이지 크기
+     */
+    private final int size;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private final boolean hasNext;
+
+    /**
+     * 캐시된 근사 총 개수 (요청마다 COUNT하지 않으므로 약간의 오차가 있을 수 있음)
+     */
+    private final long approximateTotal;
+
+    public SliceResponseDto(List<T> content, int page, int size, boolean hasNext, long approximateTotal) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.approximateTotal = approximateTotal;
+    }
+}
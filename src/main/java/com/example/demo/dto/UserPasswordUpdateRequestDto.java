@@ -0,0 +1,34 @@
+package com.example.demo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 사용자 비밀번호 변경 요청 DTO
+ *
+ * 역할:
+ * 1. 관리자가 사용자의 비밀번호를 재설정할 때 사용
+ * 2. JSON 요청 데이터를 Java 객체로 변환
+ */
+@Schema(description = "비밀번호 변경 요청 정보")
+@Getter
+@Setter
+public class UserPasswordUpdateRequestDto {
+
+    /**
+     * 변경할 비밀번호
+     */
+    @Schema(description = "변경할 비밀번호", example = "newPassword123")
+    @NotBlank(message = "비밀번호는 필수입니다")
+    private String password;
+
+    /**
+     * 비밀번호 확인
+     * Controller에서 password와 일치 여부 검증
+     */
+    @Schema(description = "비밀번호 확인", example = "newPassword123")
+    @NotBlank(message = "비밀번호 확인은 필수입니다")
+    private String passwordConfirm;
+}
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.example.demo.entity;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -15,6 +17,7 @@ import lombok.Setter;
 @Entity
 @Table(name="TB_BOARD")
 @Comment("게시판 테이블")
+@DynamicUpdate // 변경된 컬럼만 UPDATE (like_count/comment_count 등 DB에서 직접 증감하는 컬럼을 덮어쓰지 않도록)
 @Getter
 @Setter
 @Builder // 게시글 생성 시 사용
@@ -23,6 +26,9 @@ import lombok.Setter;
 
 public class Board extends BaseEntity{
 	
+	// 목록 미리보기 요약 길이
+	public static final int EXCERPT_LENGTH = 100;
+	
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Comment("게시글 번호")
@@ -32,10 +38,20 @@ public class Board extends BaseEntity{
 	@Comment("제목")
 	private String title; // 제목
 	
+	// 본문은 지연 로딩 (hibernate-enhance-maven-plugin 바이트코드 향상 필요)
+	// 목록/권한 확인/좋아요 등 본문이 필요 없는 곳에서는 TEXT 컬럼을 읽지 않습니다.
+	// 임계값 이상인 본문은 압축하여 저장 (board.compression.enabled)
+	@Basic(fetch = FetchType.LAZY)
+	@Convert(converter = CompressedTextConverter.class)
 	@Column(columnDefinition = "TEXT", nullable = false)
 	@Comment("내용")
 	private String content; //내용
 	
+	// 목록 미리보기용 요약 (본문 앞부분, 본문 변경 시 함께 갱신)
+	@Column(length = 200)
+	@Comment("내용 요약")
+	private String excerpt;
+	
 	@Comment("조회수")
 	private Integer viewCnt; // 조회수
 	
@@ -55,6 +71,13 @@ public class Board extends BaseEntity{
 	@Builder.Default
 	private Integer likeCount = 0; // 좋아요 수 (기본값 0)
 	
+	// 댓글 작성/삭제 시 BoardRepository.addCommentCount()로 DB에서 직접 증감
+	@Column(name = "comment_count", nullable = false)
+	@ColumnDefault("0")
+	@Comment("댓글 수")
+	@Builder.Default
+	private Integer commentCount = 0; // 댓글 수 (기본값 0)
+	
 	
 	// 🚨 OneToMany 관계 설정 및 CascadeType.REMOVE, orphanRemoval=true 적용
     @OneToMany(mappedBy = "board", // Comment.java의 private Board board 필드 이름을 지정
@@ -66,8 +89,37 @@ public class Board extends BaseEntity{
 	// 게시글 수정을 위한 메서드
 	public void update(String title, String content) {
 		this.title = title;
-		this.content = content;
+		setContent(content);
 		
 	}
+	
+	// 본문 변경 시 요약도 함께 갱신 (Lombok @Setter 대신 직접 정의)
+	public void setContent(String content) {
+		this.content = content;
+		this.excerpt = toExcerpt(content);
+	}
+	
+	// 빌더로 생성된 경우 저장 직전에 요약 생성
+	@PrePersist
+	private void initExcerpt() {
+		if (this.excerpt == null) {
+			this.excerpt = toExcerpt(this.content);
+		}
+	}
+	
+	/**
+	 * 본문 앞부분을 잘라 목록 미리보기용 요약 생성
+	 * @param content 본문
+	 * @return 최대 EXCERPT_LENGTH자 + "..."
+	 */
+	public static String toExcerpt(String content) {
+		if (content == null) {
+			return "";
+		}
+		if (content.length() <= EXCERPT_LENGTH) {
+			return content;
+		}
+		return content.substring(0, EXCERPT_LENGTH) + "...";
+	}
 
 }
@@ -7,7 +7,11 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "TB_BOARD_LIKE",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"board_no", "user_no"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"board_no", "user_no"}),
+       indexes = {
+           // 좋아요 누른 사람 목록 (게시글별 like_no 역순 keyset 페이징)
+           @Index(name = "IDX_BOARD_LIKE_BOARD_LIKE_NO", columnList = "board_no, like_no")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,42 @@
+package com.example.demo.entity;
+
+import org.hibernate.annotations.Comment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글별 고유 방문자 HyperLogLog 스케치 저장 테이블
+ * 스케치 크기는 방문자 수와 관계없이 고정(2048바이트)입니다.
+ */
+@Entity
+@Table(name = "TB_BOARD_VIEWER_SKETCH")
+@Comment("게시글 고유 방문자 스케치 테이블")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardViewerSketch {
+
+    @Id
+    @Column(name = "board_no")
+    @Comment("게시글 번호")
+    private Long boardNo;
+
+    @Column(name = "sketch", columnDefinition = "VARBINARY(2048)", nullable = false)
+    @Comment("HyperLogLog 레지스터")
+    private byte[] sketch;
+
+    @Column(name = "unique_view_cnt", nullable = false)
+    @Comment("추정 고유 방문자 수")
+    private Long uniqueViewCnt;
+
+    public BoardViewerSketch(Long boardNo, byte[] sketch, Long uniqueViewCnt) {
+        this.boardNo = boardNo;
+        this.sketch = sketch;
+        this.uniqueViewCnt = uniqueViewCnt;
+    }
+}
@@ -1,12 +1,21 @@
 package com.example.demo.entity;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "TB_COMMENT")
+@Table(name = "TB_COMMENT", indexes = {
+        // 게시글별 스레드 전체/하위 트리 조회 (thread_path 순서 = 화면 출력 순서)
+        @Index(name = "IDX_COMMENT_BOARD_PATH", columnList = "board_no, thread_path"),
+        // 접힌 목록 조회 (최상위 댓글만 thread_path 순서로)
+        @Index(name = "IDX_COMMENT_BOARD_DEPTH_PATH", columnList = "board_no, depth, thread_path")
+})
+@DynamicUpdate // reply_count는 SQL로 직접 증감하므로 변경된 컬럼만 UPDATE
 @Getter
 @Setter // 댓글 내용은 수정될 수 있으므로 @Setter를 허용합니다.
 @Builder
@@ -18,19 +27,65 @@ public class Comment extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long commentNo; // 댓글 번호 (PK)
 
+    @Convert(converter = CompressedTextConverter.class)
     @Column(columnDefinition = "TEXT", nullable = false)
-    private String content; // 댓글 내용
+    private String content; // 댓글 내용 (임계값 이상이면 압축 저장)
     
-    @ManyToOne 
+    @ManyToOne(fetch = FetchType.LAZY) // 목록 조회 시 게시글을 함께 읽지 않음 (getBoardNo()는 프록시에서 바로 반환)
     @JoinColumn(name = "board_no") // DB 테이블의 외래 키 컬럼 이름 (board_no)을 지정합니다.
     @JsonIgnore 
     private Board board;
 
     @Column(name = "author_no", nullable = false)
     private Long authorNo; // 댓글 작성자 번호 (FK 역할)
+
+    @Column(name = "parent_no")
+    private Long parentNo; // 부모 댓글 번호 (최상위 댓글은 null)
+
+    // 구체화 경로(materialized path): 최상위부터 자신까지의 댓글 번호를 12자리로 맞춰 '/'로 연결
+    // 예) 000000000012/000000000034 → 문자열 순서가 곧 스레드 출력 순서이고,
+    //     하위 트리는 "경로/" 이상 "경로0" 미만 범위 한 번으로 조회됩니다. ('0'은 '/' 바로 다음 문자)
+    @Column(name = "thread_path", length = 255)
+    private String threadPath;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer depth = 0; // 스레드 깊이 (최상위 댓글 0)
+
+    @Column(name = "reply_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer replyCount = 0; // 바로 아래 답글 수 (SQL로 증감)
+
+    public static final int PATH_SEGMENT_LENGTH = 12;
+    public static final int MAX_DEPTH = 10;
     
     public void updateContent(String content) {
         this.content = content;
     }
+
+    /**
+     * 저장 후(댓글 번호 발급 후) 스레드 경로 지정
+     * @param parentPath 부모 댓글 경로 (최상위 댓글이면 null)
+     */
+    public void assignThreadPath(String parentPath) {
+        String segment = String.format("%0" + PATH_SEGMENT_LENGTH + "d", commentNo);
+        this.threadPath = parentPath == null ? segment : parentPath + "/" + segment;
+    }
+
+    /**
+     * 하위 트리 범위 하한 (이 값보다 큰 경로부터가 자손)
+     */
+    public static String subtreeLowerBound(String path) {
+        return path + "/";
+    }
+
+    /**
+     * 하위 트리 범위 상한 (이 값보다 작은 경로까지가 자손)
+     */
+    public static String subtreeUpperBound(String path) {
+        return path + "0";
+    }
     // @Transient 필드는 필요하지 않습니다. 댓글은 즉시 작성자 ID를 사용할 것입니다.
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.example.demo.entity;
+
+import com.example.demo.util.TextCompressor;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 본문(TEXT) 압축 저장용 JPA 컨버터
+ * 엔티티 필드에 @Convert(converter = CompressedTextConverter.class)로 적용합니다.
+ * Hibernate가 Spring Bean 컨테이너를 통해 생성하므로 TextCompressor를 주입받습니다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    private final TextCompressor textCompressor;
+
+    public CompressedTextConverter(TextCompressor textCompressor) {
+        this.textCompressor = textCompressor;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return textCompressor.compress(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return textCompressor.decompress(dbData);
+    }
+}
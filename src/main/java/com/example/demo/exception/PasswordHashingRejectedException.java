@@ -0,0 +1,16 @@
+package com.example.demo.exception;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+/**
+ * 비밀번호 해싱 전용 스레드 풀이 포화되어 요청을 바로 거절할 때 발생하는 예외입니다.
+ * 인증 도중 발생하면 Spring Security가 다른 인증 수단을 시도하지 않고 즉시 실패 처리하며,
+ * REST API에서는 RestExceptionHandler가 503 Service Unavailable(Retry-After 포함)로 변환합니다.
+ */
+public class PasswordHashingRejectedException extends InternalAuthenticationServiceException {
+	private static final long serialVersionUID = 1L;
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
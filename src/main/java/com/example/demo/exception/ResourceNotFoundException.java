@@ -0,0 +1,13 @@
+package com.example.demo.exception;
+
+/**
+ * 요청한 게시글/댓글 등이 존재하지 않을 때 발생하는 예외입니다.
+ * REST API에서는 RestExceptionHandler가 404 Not Found로 변환합니다.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
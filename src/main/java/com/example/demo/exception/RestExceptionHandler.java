@@ -1,6 +1,7 @@
 package com.example.demo.exception;
 
 import com.example.demo.dto.ApiResponseDto;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -124,6 +125,62 @@ public class RestExceptionHandler {
                 ));
     }
 
+    /**
+     * 작성자가 아닌 사용자의 수정/삭제 처리 (403 Forbidden)
+     *
+     * @param ex UnauthorizedAccessException
+     * @return 403 Forbidden 응답
+     */
+    @ExceptionHandler(UnauthorizedAccessException.class)
+    public ResponseEntity<ApiResponseDto<Object>> handleUnauthorizedAccessException(
+            UnauthorizedAccessException ex) {
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponseDto.error(
+                        ex.getMessage(),
+                        "ACCESS_DENIED",
+                        "작성자만 수정/삭제할 수 있습니다."
+                ));
+    }
+
+    /**
+     * 대상 리소스 없음 처리 (404 Not Found)
+     *
+     * @param ex ResourceNotFoundException
+     * @return 404 Not Found 응답
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ApiResponseDto<Object>> handleResourceNotFoundException(
+            ResourceNotFoundException ex) {
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponseDto.error(
+                        ex.getMessage(),
+                        "NOT_FOUND",
+                        "요청한 리소스를 찾을 수 없습니다."
+                ));
+    }
+
+    /**
+     * 비밀번호 해싱 풀 포화 처리 (로그인/회원가입 폭주)
+     * 요청 스레드를 붙잡지 않고 즉시 거절하며, 클라이언트가 1초 후 재시도하도록 안내합니다.
+     *
+     * @param ex PasswordHashingRejectedException
+     * @return 503 Service Unavailable 응답 (Retry-After: 1)
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ApiResponseDto<Object>> handlePasswordHashingRejectedException(
+            PasswordHashingRejectedException ex) {
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponseDto.error(
+                        ex.getMessage(),
+                        "AUTH_BUSY",
+                        "잠시 후 다시 시도해주세요."
+                ));
+    }
+
     /**
      * 비즈니스 로직 예외 처리 (중복 아이디 등)
      *
@@ -0,0 +1,19 @@
+package com.example.demo.jwt;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 로그인한 사용자 정보(JwtUserPrincipal) 주입용 어노테이션
+ *
+ * 사용 예: public ResponseEntity<?> create(@CurrentUser JwtUserPrincipal currentUser)
+ * 인증되지 않은 요청이면 null이 주입됩니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
@@ -0,0 +1,57 @@
+package com.example.demo.jwt;
+
+import com.example.demo.entity.User;
+import com.example.demo.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUser JwtUserPrincipal 파라미터 주입
+ *
+ * 역할:
+ * 1. JwtAuthenticationFilter가 설정한 principal을 그대로 주입 (DB 조회 없음)
+ * 2. userNo/role 클레임이 없는 이전 토큰일 때만 사용자 ID로 한 번 조회하여 보완
+ * 3. 인증되지 않은 요청이면 null 주입
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserService userService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && JwtUserPrincipal.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        // 1. 토큰에 사용자 번호와 권한이 모두 있으면 그대로 사용
+        if (authentication.getPrincipal() instanceof JwtUserPrincipal principal && principal.isComplete()) {
+            return principal;
+        }
+
+        // 2. 이전 형식 토큰 (또는 다른 인증 방식)은 사용자 ID로 조회
+        User user = userService.getUserByUserId(authentication.getName());
+        return new JwtUserPrincipal(user.getUserNo(), user.getUserId(), user.getRole());
+    }
+}
@@ -5,24 +5,20 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * JWT 토큰 인증 필터
  *
  * 역할:
  * 1. HTTP 요청에서 JWT 토큰 추출
- * 2. 토큰 유효성 검증
- * 3. 유효한 토큰이면 Spring Security Context에 인증 정보 설정
+ * 2. 토큰 유효성 검증 (JwtTokenProvider.verify 한 번, 검증된 토큰은 캐시에서 바로 응답)
+ * 3. 유효한 토큰이면 Spring Security Context에 인증 정보(JwtUserPrincipal) 설정
  *
  * OncePerRequestFilter: 요청당 한 번만 실행되는 필터
  */
@@ -53,31 +49,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. HTTP 요청 헤더에서 JWT 토큰 추출
         String token = getTokenFromRequest(request);
 
-        // 2. 토큰이 존재하고 유효한지 검증
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        // 2. 토큰 검증과 사용자 정보/권한 추출을 한 번에 처리 (무효/폐기된 토큰이면 null)
+        VerifiedToken verified = StringUtils.hasText(token) ? jwtTokenProvider.verify(token) : null;
 
-            // 3. 토큰에서 사용자 정보 추출
-            String userId = jwtTokenProvider.getUserIdFromToken(token);
-            String authorities = jwtTokenProvider.getAuthoritiesFromToken(token);
+        // Access Token만 인증에 사용 (Refresh Token과 typ/auth 클레임이 없는 이전 Refresh Token은 제외)
+        if (verified != null && verified.isAccessToken()) {
 
-            // 4. 권한 문자열을 Spring Security 권한 객체로 변환
-            List<SimpleGrantedAuthority> grantedAuthorities = null;
-            if (StringUtils.hasText(authorities)) {
-                grantedAuthorities = Arrays.stream(authorities.split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-            }
-
-            // 5. Spring Security 인증 객체 생성
+            // 3. Spring Security 인증 객체 생성 (사용자 번호/권한은 토큰에서, 권한 객체는 검증 시 미리 변환됨)
             UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(userId, null, grantedAuthorities);
+                new UsernamePasswordAuthenticationToken(verified.principal(), null, verified.authorities());
 
-            // 6. Security Context에 인증 정보 설정
+            // 4. Security Context에 인증 정보 설정
             // 이후 @PreAuthorize, @Secured 등에서 이 정보를 사용
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
-        // 7. 다음 필터로 요청 전달 (필터 체인 계속 진행)
+        // 5. 다음 필터로 요청 전달 (필터 체인 계속 진행)
         filterChain.doFilter(request, response);
     }
 
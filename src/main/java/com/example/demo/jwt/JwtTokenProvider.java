@@ -2,15 +2,21 @@ package com.example.demo.jwt;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import com.example.demo.config.JwtConfig;
+import com.example.demo.entity.User;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
-import java.util.stream.Collectors;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JWT 토큰 생성, 검증, 파싱을 담당하는 핵심 클래스
@@ -19,45 +25,72 @@ import java.util.stream.Collectors;
  * 1. 로그인 성공 시 JWT 토큰 생성
  * 2. API 요청 시 토큰 유효성 검증
  * 3. 토큰에서 사용자 정보 추출
+ *
+ * 파서는 생성 시 한 번만 만들어 재사용하며(스레드 안전), 서명 검증이 끝난 토큰은
+ * 토큰 해시(SHA-256)를 키로 만료 시각까지 캐시하여 같은 토큰의 반복 요청은 서명 검증을 생략합니다.
+ * 모든 토큰에는 jti(UUID)와 종류(typ: access/refresh)가 담기며,
+ * 로그아웃/재발급으로 폐기된 jti는 TokenRevocationStore에서 확인합니다.
  */
 @Component
 public class JwtTokenProvider {
 
+    // 사용자 번호/권한 클레임 (요청마다 사용자 조회 없이 userNo, role 사용)
+    public static final String USER_NO_CLAIM = "uno";
+    public static final String ROLE_CLAIM = "role";
+
+    // 토큰 종류 클레임 (Refresh Token은 API 인증에 사용할 수 없음)
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final JwtConfig jwtConfig;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    // 검증된 토큰 캐시 (토큰 해시 → 검증 결과), 상한은 jwt.verifiedTokenCacheSize
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
 
     /**
      * 생성자: JWT 설정을 주입받고 비밀키 초기화
      *
      * @param jwtConfig JWT 설정 정보 (application.yml에서 읽어온 값들)
+     * @param tokenRevocationStore 폐기된 토큰 저장소
      */
-    public JwtTokenProvider(JwtConfig jwtConfig) {
+    public JwtTokenProvider(JwtConfig jwtConfig, TokenRevocationStore tokenRevocationStore) {
         this.jwtConfig = jwtConfig;
+        this.tokenRevocationStore = tokenRevocationStore;
         // 문자열 비밀키를 암호화에 사용할 SecretKey 객체로 변환
         this.secretKey = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes());
+        // 서명 검증용 파서는 한 번만 생성하여 모든 요청에서 재사용
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     /**
      * Access Token 생성
      *
-     * @param authentication Spring Security 인증 객체 (로그인한 사용자 정보)
+     * @param user 인증된 사용자 (ID, 번호, 권한을 토큰에 담음)
      * @return JWT Access Token 문자열
      */
-    public String createAccessToken(Authentication authentication) {
+    public String createAccessToken(User user) {
         // 현재 시간
         Date now = new Date();
         // 토큰 만료 시간 = 현재시간 + 설정된 만료시간
         Date expiryDate = new Date(now.getTime() + jwtConfig.getAccessTokenExpiration());
 
-        // 사용자의 권한들을 문자열로 변환 (예: "ROLE_ADMIN,ROLE_USER")
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+        // 사용자의 권한을 문자열로 변환 (UserSecurityService와 같은 형식, 예: "ROLE_ADMIN")
+        String authorities = "ROLE_" + user.getRole().name();
 
         // JWT 토큰 생성
         return Jwts.builder()
-                .setSubject(authentication.getName())           // 토큰 주체 (사용자 ID)
+                .setId(UUID.randomUUID().toString())           // 토큰 ID (jti, 폐기 시 사용)
+                .setSubject(user.getUserId())                  // 토큰 주체 (사용자 ID)
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)     // 토큰 종류
                 .claim("auth", authorities)                     // 사용자 권한 정보
+                .claim(USER_NO_CLAIM, user.getUserNo())         // 사용자 번호
+                .claim(ROLE_CLAIM, user.getRole().name())       // 사용자 권한 (Role)
                 .setIssuedAt(now)                              // 토큰 발급 시간
                 .setExpiration(expiryDate)                     // 토큰 만료 시간
                 .signWith(secretKey, SignatureAlgorithm.HS256) // 서명 (비밀키 + 알고리즘)
@@ -66,22 +99,78 @@ public class JwtTokenProvider {
 
     /**
      * Refresh Token 생성 (Access Token보다 긴 만료시간)
+     * 재발급에 한 번 사용하면 jti가 폐기되어 다시 사용할 수 없습니다.
      *
-     * @param authentication Spring Security 인증 객체
+     * @param user 인증된 사용자
      * @return JWT Refresh Token 문자열
      */
-    public String createRefreshToken(Authentication authentication) {
+    public String createRefreshToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtConfig.getRefreshTokenExpiration());
 
         return Jwts.builder()
-                .setSubject(authentication.getName())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUserId())
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Access Token 만료 시간 (초)
+     *
+     * @return 로그인/재발급 응답의 expiresIn 값
+     */
+    public long getAccessTokenExpirationSeconds() {
+        return jwtConfig.getAccessTokenExpiration() / 1000;
+    }
+
+    /**
+     * 토큰 검증 및 인증 정보 추출 (파싱/서명 검증은 최대 한 번)
+     *
+     * @param token JWT 토큰 문자열
+     * @return 검증된 토큰 내용 (무효하거나 만료되었거나 폐기된 토큰이면 null)
+     */
+    public VerifiedToken verify(String token) {
+        long now = System.currentTimeMillis();
+        String key = hashToken(token);
+
+        // 1. 이미 검증한 토큰이면 만료 시각과 폐기 여부만 확인
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (cached.isExpired(now)) {
+                verifiedTokens.remove(key, cached);
+                return null;
+            }
+            return tokenRevocationStore.isRevoked(cached.tokenId()) ? null : cached;
+        }
+
+        // 2. 처음 보는 토큰은 한 번 파싱하여 서명/만료 검증
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        VerifiedToken verified = VerifiedToken.from(claims);
+        cacheVerifiedToken(key, verified, now);
+        return tokenRevocationStore.isRevoked(verified.tokenId()) ? null : verified;
+    }
+
+    /**
+     * 검증된 토큰 폐기 (만료 시각까지 보관)
+     *
+     * @param token 검증된 토큰
+     * @return true: 새로 폐기됨, false: jti가 없는 이전 토큰이거나 이미 폐기된 토큰
+     */
+    public boolean revoke(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            return false;
+        }
+        return tokenRevocationStore.revoke(token.tokenId(), token.expiresAt());
+    }
+
     /**
      * 토큰에서 사용자 ID 추출
      *
@@ -90,9 +179,7 @@ public class JwtTokenProvider {
      */
     public String getUserIdFromToken(String token) {
         // 토큰을 파싱하여 Claims(토큰 내용) 추출
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)    // 서명 검증용 비밀키
-                .build()
+        Claims claims = jwtParser
                 .parseClaimsJws(token)       // 토큰 파싱 및 서명 검증
                 .getBody();                  // 토큰 내용(Claims) 추출
 
@@ -106,9 +193,7 @@ public class JwtTokenProvider {
      * @return 권한 문자열 (예: "ROLE_ADMIN,ROLE_USER")
      */
     public String getAuthoritiesFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
+        Claims claims = jwtParser
                 .parseClaimsJws(token)
                 .getBody();
 
@@ -123,13 +208,21 @@ public class JwtTokenProvider {
      * @return true: 유효한 토큰, false: 무효한 토큰
      */
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * 토큰 파싱 및 서명/만료 검증
+     *
+     * @param token JWT 토큰 문자열
+     * @return 토큰 내용 (무효한 토큰이면 null)
+     */
+    private Claims parseClaims(String token) {
         try {
             // 토큰 파싱 시도 - 성공하면 유효한 토큰
-            Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            return jwtParser
+                .parseClaimsJws(token)
+                .getBody();
 
         } catch (SecurityException | MalformedJwtException e) {
             // 잘못된 JWT 서명 또는 형식
@@ -144,6 +237,43 @@ public class JwtTokenProvider {
             // JWT 토큰이 잘못되었습니다
             System.out.println("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * 검증된 토큰 캐시에 저장
+     * 상한에 도달하면 만료된 토큰을 먼저 제거하고, 그래도 가득 차 있으면 임의의 10%를 비웁니다.
+     */
+    private void cacheVerifiedToken(String key, VerifiedToken verified, long now) {
+        int maxSize = jwtConfig.getVerifiedTokenCacheSize();
+        if (maxSize <= 0) {
+            return;
+        }
+
+        if (verifiedTokens.size() >= maxSize) {
+            verifiedTokens.values().removeIf(token -> token.isExpired(now));
+
+            int target = maxSize - Math.max(1, maxSize / 10);
+            Iterator<String> iterator = verifiedTokens.keySet().iterator();
+            while (verifiedTokens.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        verifiedTokens.put(key, verified);
+    }
+
+    /**
+     * 캐시 키용 토큰 해시 (토큰 원문은 메모리에 보관하지 않음)
+     */
+    private static String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.demo.jwt;
+
+import com.example.demo.entity.Role;
+
+import java.security.Principal;
+
+/**
+ * JWT 인증 사용자 정보 (Security Context의 principal)
+ *
+ * 역할:
+ * 1. 토큰에 담긴 사용자 번호/ID/권한을 요청 처리 동안 보관
+ * 2. 컨트롤러에서 @CurrentUser로 주입받아 사용자 조회 없이 userNo, role 사용
+ *
+ * getName()은 사용자 ID를 반환하므로 authentication.getName()을 쓰는 기존 코드도 그대로 동작합니다.
+ *
+ * @param userNo 사용자 번호 (userNo 클레임이 없는 이전 토큰이면 null)
+ * @param userId 사용자 ID
+ * @param role 권한 (role 클레임이 없는 이전 토큰이면 null)
+ */
+public record JwtUserPrincipal(Long userNo, String userId, Role role) implements Principal {
+
+    @Override
+    public String getName() {
+        return userId;
+    }
+
+    /**
+     * 토큰만으로 사용자 번호와 권한을 모두 알 수 있는지 확인
+     *
+     * @return true: DB 조회 불필요
+     */
+    public boolean isComplete() {
+        return userNo != null && role != null;
+    }
+}
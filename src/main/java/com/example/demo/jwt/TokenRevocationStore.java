@@ -0,0 +1,185 @@
+package com.example.demo.jwt;
+
+import com.example.demo.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 JWT 토큰(jti) 저장소
+ *
+ * 역할:
+ * 1. 로그아웃/재발급으로 폐기된 토큰 ID(jti)를 토큰 만료 시각까지 보관
+ * 2. 요청마다 호출되는 폐기 여부 확인을 블룸 필터로 먼저 걸러 O(1)에 응답
+ *    (블룸 필터가 "있을 수도 있음"일 때만 정확한 집합을 확인)
+ * 3. 만료된 항목은 주기적으로 제거하고, 재시작 후에도 유지되도록 스냅샷 파일에 저장
+ *
+ * 스냅샷 형식: MAGIC(int) + 개수(int) + [jti UUID(long 2개) + 만료 시각(long)] × 개수 (항목당 24바이트)
+ * 파일은 임시 파일에 쓴 뒤 교체하므로 저장 도중 종료되어도 이전 스냅샷이 남습니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final int SNAPSHOT_MAGIC = 0x4A525631;  // "JRV1"
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final int expectedEntries;
+    private final Path snapshotPath;
+
+    // jti → 만료 시각 (epoch 밀리초)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private boolean dirty;
+
+    public TokenRevocationStore(@Value("${jwt.revocation.expected-entries:100000}") int expectedEntries,
+                                @Value("${jwt.revocation.snapshot-path:data/revoked-tokens.bin}") String snapshotPath) {
+        this.expectedEntries = expectedEntries;
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.bloomFilter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * 토큰 폐기
+     * 블룸 필터 교체(rebuild)와 겹치지 않도록 동기화합니다. (로그아웃/재발급 시에만 호출)
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시각 (epoch 밀리초), 이 시각 이후 자동 제거
+     * @return true: 새로 폐기됨, false: 이미 폐기된 토큰
+     */
+    public synchronized boolean revoke(String tokenId, long expiresAt) {
+        if (revokedTokens.putIfAbsent(tokenId, expiresAt) != null) {
+            return false;
+        }
+        bloomFilter.add(tokenId);
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * 폐기 여부 확인 (요청마다 호출, 잠금 없음)
+     *
+     * @param tokenId 토큰 ID (jti, 없으면 폐기할 수 없는 이전 토큰)
+     * @return true: 폐기된 토큰
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    /**
+     * 만료된 항목 제거 및 스냅샷 저장
+     * 블룸 필터는 삭제를 지원하지 않으므로 제거된 항목이 있으면 남은 항목으로 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-ms:60000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        if (revokedTokens.values().removeIf(expiresAt -> expiresAt <= now)) {
+            rebuildBloomFilter();
+            dirty = true;
+        }
+        if (dirty) {
+            writeSnapshot();
+        }
+    }
+
+    /**
+     * 시작 시 스냅샷 복원 (이미 만료된 항목은 건너뜀)
+     */
+    @PostConstruct
+    public synchronized void loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                log.warn("토큰 폐기 스냅샷 형식이 올바르지 않아 무시합니다: {}", snapshotPath);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String tokenId = new UUID(in.readLong(), in.readLong()).toString();
+                long expiresAt = in.readLong();
+                if (expiresAt > now) {
+                    revokedTokens.put(tokenId, expiresAt);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("토큰 폐기 스냅샷을 읽지 못했습니다: {}", snapshotPath, e);
+        }
+        rebuildBloomFilter();
+        log.info("토큰 폐기 스냅샷 복원: {}건", revokedTokens.size());
+    }
+
+    /**
+     * 종료 시 마지막 스냅샷 저장
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (dirty) {
+            writeSnapshot();
+        }
+    }
+
+    private void rebuildBloomFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revokedTokens.size() * 2), FALSE_POSITIVE_RATE);
+        for (String tokenId : revokedTokens.keySet()) {
+            rebuilt.add(tokenId);
+        }
+        bloomFilter = rebuilt;
+    }
+
+    private void writeSnapshot() {
+        // UUID 형식의 jti만 저장 (이 서버가 발급한 토큰은 모두 UUID)
+        Map<UUID, Long> entries = new HashMap<>();
+        revokedTokens.forEach((tokenId, expiresAt) -> {
+            try {
+                entries.put(UUID.fromString(tokenId), expiresAt);
+            } catch (IllegalArgumentException e) {
+                // UUID가 아닌 jti는 스냅샷에서 제외
+            }
+        });
+
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(entries.size());
+                for (Map.Entry<UUID, Long> entry : entries.entrySet()) {
+                    out.writeLong(entry.getKey().getMostSignificantBits());
+                    out.writeLong(entry.getKey().getLeastSignificantBits());
+                    out.writeLong(entry.getValue());
+                }
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            log.warn("토큰 폐기 스냅샷을 저장하지 못했습니다: {}", snapshotPath, e);
+        }
+    }
+}
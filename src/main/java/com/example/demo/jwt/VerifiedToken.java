@@ -0,0 +1,101 @@
+package com.example.demo.jwt;
+
+import com.example.demo.entity.Role;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰의 내용
+ *
+ * 역할:
+ * 1. 토큰을 한 번만 파싱하여 인증에 필요한 값(사용자 번호/ID, 권한, 토큰 ID/종류, 만료 시각)만 보관
+ * 2. 검증된 토큰 캐시에 그대로 저장되므로 불변 객체로 유지
+ *
+ * @param principal 사용자 정보 (Subject + userNo/role 클레임)
+ * @param authorities 권한 목록 (예: ROLE_ADMIN)
+ * @param tokenId 토큰 ID (jti, 이전 토큰이면 null)
+ * @param tokenType 토큰 종류 (access/refresh, 이전 토큰이면 null)
+ * @param expiresAt 만료 시각 (epoch 밀리초)
+ */
+public record VerifiedToken(JwtUserPrincipal principal, List<GrantedAuthority> authorities,
+                            String tokenId, String tokenType, long expiresAt) {
+
+    /**
+     * 검증된 Claims로부터 생성
+     *
+     * @param claims 서명 검증이 끝난 토큰 내용
+     * @return VerifiedToken
+     */
+    public static VerifiedToken from(Claims claims) {
+        // "auth" 클레임의 권한 문자열을 Spring Security 권한 객체로 미리 변환
+        String auth = claims.get("auth", String.class);
+        List<GrantedAuthority> authorities = StringUtils.hasText(auth)
+                ? Arrays.stream(auth.split(","))
+                        .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                        .toList()
+                : List.of();
+
+        // 만료 시각이 없는 토큰은 만료되지 않는 것으로 처리 (캐시 상한으로만 제거)
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+
+        JwtUserPrincipal principal = new JwtUserPrincipal(
+                claims.get(JwtTokenProvider.USER_NO_CLAIM, Long.class),
+                claims.getSubject(),
+                parseRole(claims.get(JwtTokenProvider.ROLE_CLAIM, String.class)));
+
+        return new VerifiedToken(principal, authorities, claims.getId(),
+                claims.get(JwtTokenProvider.TOKEN_TYPE_CLAIM, String.class), expiresAt);
+    }
+
+    /**
+     * role 클레임 변환 (없거나 알 수 없는 값이면 null → 필요 시 DB 조회로 보완)
+     */
+    private static Role parseRole(String role) {
+        if (!StringUtils.hasText(role)) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Access Token 여부 확인 (API 인증에 사용할 수 있는 토큰)
+     * typ 클레임이 없는 이전 토큰은 Access Token에만 있던 auth 클레임으로 구분하여,
+     * 이전에 발급된 Refresh Token이 인증에 쓰이지 않도록 합니다.
+     *
+     * @return true: Access Token
+     */
+    public boolean isAccessToken() {
+        if (tokenType != null) {
+            return JwtTokenProvider.ACCESS_TOKEN_TYPE.equals(tokenType);
+        }
+        return !authorities.isEmpty();
+    }
+
+    /**
+     * Refresh Token 여부 확인 (API 인증에는 사용할 수 없음)
+     *
+     * @return true: Refresh Token
+     */
+    public boolean isRefreshToken() {
+        return JwtTokenProvider.REFRESH_TOKEN_TYPE.equals(tokenType);
+    }
+
+    /**
+     * 만료 여부 확인
+     *
+     * @param now 현재 시각 (epoch 밀리초)
+     * @return true: 만료됨
+     */
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
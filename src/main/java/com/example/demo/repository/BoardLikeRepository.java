@@ -1,7 +1,13 @@
 package com.example.demo.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.example.demo.entity.BoardLike;
 
 public interface BoardLikeRepository extends JpaRepository<BoardLike, Long> {
@@ -42,4 +48,65 @@ public interface BoardLikeRepository extends JpaRepository<BoardLike, Long> {
      * @param boardNo 게시글 번호
      */
     void deleteByBoard_BoardNo(Long boardNo);
+
+    /**
+     * 특정 게시글에 좋아요를 누른 사용자 번호 목록 조회
+     * 좋아요 메모리 인덱스(BoardLikeIndex) 적재용 (엔티티 로딩 없이 번호만 조회)
+     *
+     * @param boardNo 게시글 번호
+     * @return 사용자 번호 목록
+     */
+    @Query("SELECT l.user.userNo FROM BoardLike l WHERE l.board.boardNo = :boardNo")
+    List<Long> findUserNosByBoardNo(@Param("boardNo") Long boardNo);
+
+    /**
+     * 여러 게시글에 좋아요를 누른 (게시글 번호, 사용자 번호) 쌍 조회
+     * 좋아요 메모리 인덱스에 없는 게시글들을 한 번의 쿼리로 적재하기 위한 용도
+     *
+     * @param boardNos 게시글 번호 목록
+     * @return [게시글 번호, 사용자 번호] 배열 목록
+     */
+    @Query("SELECT l.board.boardNo, l.user.userNo FROM BoardLike l WHERE l.board.boardNo IN :boardNos")
+    List<Object[]> findBoardAndUserNosByBoardNos(@Param("boardNos") Collection<Long> boardNos);
+
+    /**
+     * 게시글의 좋아요를 최신순으로 커서 이후부터 조회 (좋아요 누른 사람 목록)
+     * IDX_BOARD_LIKE_BOARD_LIKE_NO(board_no, like_no) 역방향 범위 스캔으로
+     * 좋아요가 많은 게시글에서도 OFFSET 없이 페이지 크기만큼만 읽습니다.
+     *
+     * @param boardNo 게시글 번호
+     * @param beforeLikeNo 이전 페이지 마지막 좋아요 번호 (첫 페이지는 Long.MAX_VALUE)
+     * @param pageable 조회 건수 제한
+     * @return 좋아요 목록 (사용자는 지연 로딩, user_no만 사용)
+     */
+    @Query("SELECT l FROM BoardLike l WHERE l.board.boardNo = :boardNo AND l.likeNo < :beforeLikeNo"
+            + " ORDER BY l.likeNo DESC")
+    List<BoardLike> findLikerPage(@Param("boardNo") Long boardNo,
+                                  @Param("beforeLikeNo") Long beforeLikeNo,
+                                  Pageable pageable);
+
+    /**
+     * 좋아요 삭제 (엔티티 조회 없이 유니크 키로 바로 DELETE)
+     * 좋아요 토글의 첫 단계: 1이면 취소된 것이고, 0이면 좋아요가 없던 상태
+     *
+     * @param boardNo 게시글 번호
+     * @param userNo 사용자 번호
+     * @return 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM TB_BOARD_LIKE WHERE board_no = :boardNo AND user_no = :userNo", nativeQuery = true)
+    int deleteLike(@Param("boardNo") Long boardNo, @Param("userNo") Long userNo);
+
+    /**
+     * 좋아요 추가 (유니크 키 (board_no, user_no) 중복이면 무시)
+     * 동시에 같은 요청이 들어와도 제약 조건 오류 없이 한 건만 저장됩니다.
+     *
+     * @param boardNo 게시글 번호
+     * @param userNo 사용자 번호
+     * @return 추가된 행 수 (중복이면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO TB_BOARD_LIKE (board_no, user_no, create_dt, modify_dt)"
+            + " VALUES (:boardNo, :userNo, NOW(6), NOW(6))", nativeQuery = true)
+    int insertLikeIgnoringDuplicate(@Param("boardNo") Long boardNo, @Param("userNo") Long userNo);
 }
@@ -1,15 +1,32 @@
 package com.example.demo.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.dto.BoardListResponseDto;
 import com.example.demo.entity.Board;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
 	// JpaRepository를 상속받으면 CRUD 및 페이징/정렬 기능이 자동으로 제공됩니다.
+
+	// 목록 화면용 DTO 프로젝션 (작성자 LEFT JOIN, 댓글 수는 비정규화 컬럼 사용, 본문 대신 요약만 조회)
+	String BOARD_LIST_SELECT = "SELECT new com.example.demo.dto.BoardListResponseDto("
+			+ " b.boardNo, b.title, b.viewCnt, b.createDt, b.modifyDt, b.authorNo,"
+			+ " u.name, u.userId, b.commentCount, b.excerpt)"
+			+ " FROM Board b LEFT JOIN User u ON u.userNo = b.authorNo";
+
 	/**
 	 * 게시글 목록을 생성일 기준 내림차순으로 페이징 조회
 	 *
@@ -17,4 +34,156 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 	 * @return Page<Board> 페이징된 게시글 목록
 	 */
 	Page<Board> findAllByOrderByCreateDtDesc(Pageable pageable);
+
+	/**
+	 * 게시글 목록 화면용 DTO를 한 번의 쿼리로 조회
+	 * 작성자(TB_USER)는 LEFT JOIN, 댓글 수는 comment_count 컬럼으로 함께 가져와
+	 * 게시글마다 작성자/댓글 수를 따로 조회하던 N+1 문제를 없앱니다.
+	 *
+	 * @param pageable 페이징 정보 (정렬은 b 별칭 기준, 예: boardNo DESC)
+	 * @return Page<BoardListResponseDto> 마스킹된 작성자 정보가 포함된 목록
+	 */
+	@Query(value = BOARD_LIST_SELECT, countQuery = "SELECT COUNT(b) FROM Board b")
+	Page<BoardListResponseDto> findBoardListRows(Pageable pageable);
+
+	/**
+	 * 게시글 목록을 Slice로 조회 (COUNT 쿼리 없음)
+	 * size + 1건을 조회하여 다음 페이지 존재 여부만 판단합니다.
+	 *
+	 * @param pageable 페이징 정보 (정렬은 b 별칭 기준)
+	 * @return Slice<BoardListResponseDto> 목록 + hasNext
+	 */
+	@Query(BOARD_LIST_SELECT)
+	Slice<BoardListResponseDto> findBoardListSlice(Pageable pageable);
+
+	/**
+	 * 커서(keyset) 방식 게시글 목록 조회
+	 * OFFSET 대신 PK 범위 조건(boardNo < cursor)으로 바로 위치를 찾아가며,
+	 * List 반환이므로 COUNT 쿼리가 실행되지 않습니다.
+	 *
+	 * @param cursor 이전 페이지 마지막 게시글 번호 (첫 페이지는 Long.MAX_VALUE)
+	 * @param pageable 조회 개수 (정렬 없이 size만 사용)
+	 * @return List<BoardListResponseDto> boardNo 내림차순 목록
+	 */
+	@Query(BOARD_LIST_SELECT + " WHERE b.boardNo < :cursor ORDER BY b.boardNo DESC")
+	List<BoardListResponseDto> findBoardListRowsBefore(@Param("cursor") Long cursor, Pageable pageable);
+
+	/**
+	 * 게시글 최종 수정일시만 조회 (조건부 GET 비교용)
+	 * 본문(TEXT) 등 다른 컬럼은 읽지 않습니다.
+	 *
+	 * @param boardNo 게시글 번호
+	 * @return Optional<LocalDateTime> 최종 수정일시 (게시글이 없으면 empty)
+	 */
+	@Query("SELECT b.modifyDt FROM Board b WHERE b.boardNo = :boardNo")
+	Optional<LocalDateTime> findModifyDtByBoardNo(@Param("boardNo") Long boardNo);
+
+	/**
+	 * 댓글 수를 DB에서 원자적으로 증감 (UPDATE ... SET comment_count = comment_count + ?)
+	 * 엔티티를 읽고 쓰지 않으므로 동시에 댓글이 달려도 값이 유실되지 않습니다.
+	 *
+	 * @param boardNo 게시글 번호
+	 * @param delta 증감값 (작성 +1, 삭제 -1)
+	 * @return 변경된 행 수 (게시글이 없으면 0)
+	 */
+	@Modifying
+	@Query("UPDATE Board b SET b.commentCount = b.commentCount + :delta WHERE b.boardNo = :boardNo")
+	int addCommentCount(@Param("boardNo") Long boardNo, @Param("delta") int delta);
+
+	/**
+	 * 좋아요 수를 DB에서 원자적으로 증감 (UPDATE ... SET like_count = like_count + ?)
+	 *
+	 * @param boardNo 게시글 번호
+	 * @param delta 증감값 (좋아요 +1, 취소 -1)
+	 * @return 변경된 행 수 (게시글이 없으면 0)
+	 */
+	@Modifying
+	@Query("UPDATE Board b SET b.likeCount = COALESCE(b.likeCount, 0) + :delta WHERE b.boardNo = :boardNo")
+	int addLikeCount(@Param("boardNo") Long boardNo, @Param("delta") int delta);
+
+	/**
+	 * 비정규화된 좋아요 수만 조회 (COUNT 쿼리 없음)
+	 *
+	 * @param boardNo 게시글 번호
+	 * @return 좋아요 수 (게시글이 없으면 empty)
+	 */
+	@Query("SELECT COALESCE(b.likeCount, 0) FROM Board b WHERE b.boardNo = :boardNo")
+	Optional<Integer> findLikeCountByBoardNo(@Param("boardNo") Long boardNo);
+
+	/**
+	 * 구간 내 게시글의 좋아요 수를 실제 좋아요 개수로 재계산
+	 * 구간마다 별도 트랜잭션으로 실행합니다.
+	 *
+	 * @param fromNo 시작 게시글 번호 (포함)
+	 * @param toNo 끝 게시글 번호 (포함)
+	 * @return 갱신된 행 수
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE Board b SET b.likeCount ="
+			+ " (SELECT COUNT(l) FROM BoardLike l WHERE l.board.boardNo = b.boardNo)"
+			+ " WHERE b.boardNo BETWEEN :fromNo AND :toNo")
+	int recalculateLikeCounts(@Param("fromNo") Long fromNo, @Param("toNo") Long toNo);
+
+	/**
+	 * 작성자 본인인 경우에만 게시글 수정 (권한 확인과 수정을 UPDATE 한 번으로 처리)
+	 * 벌크 UPDATE는 Auditing이 동작하지 않으므로 수정일시를 직접 지정합니다.
+	 *
+	 * @param boardNo 게시글 번호
+	 * @param authorNo 현재 사용자 번호 (작성자여야 함)
+	 * @param title 제목
+	 * @param content 내용
+	 * @param excerpt 목록 요약 (Board.toExcerpt(content))
+	 * @param modifyDt 수정일시
+	 * @return 변경된 행 수 (0이면 게시글이 없거나 작성자가 아님)
+	 */
+	@Modifying
+	@Query("UPDATE Board b SET b.title = :title, b.content = :content, b.excerpt = :excerpt, b.modifyDt = :modifyDt"
+			+ " WHERE b.boardNo = :boardNo AND b.authorNo = :authorNo")
+	int updateIfAuthor(@Param("boardNo") Long boardNo, @Param("authorNo") Long authorNo,
+			@Param("title") String title, @Param("content") String content,
+			@Param("excerpt") String excerpt, @Param("modifyDt") LocalDateTime modifyDt);
+
+	/**
+	 * 작성자 번호만 조회 (삭제 권한 확인용, 본문 등 다른 컬럼은 읽지 않음)
+	 *
+	 * @param boardNo 게시글 번호
+	 * @return 작성자 번호 (게시글이 없으면 empty)
+	 */
+	@Query("SELECT b.authorNo FROM Board b WHERE b.boardNo = :boardNo")
+	Optional<Long> findAuthorNoByBoardNo(@Param("boardNo") Long boardNo);
+
+	/**
+	 * 게시글 삭제 (엔티티 로딩 없이 DELETE 한 번)
+	 * 댓글은 CommentRepository.deleteAllByBoardNo()로 먼저 삭제해야 합니다.
+	 *
+	 * @param boardNo 게시글 번호
+	 * @return 삭제된 행 수
+	 */
+	@Modifying
+	@Query("DELETE FROM Board b WHERE b.boardNo = :boardNo")
+	int deleteByBoardNo(@Param("boardNo") Long boardNo);
+
+	/**
+	 * 게시글 번호의 최댓값 조회 (댓글 수 보정 작업의 범위 계산용)
+	 *
+	 * @return 최대 boardNo (게시글이 없으면 null)
+	 */
+	@Query("SELECT MAX(b.boardNo) FROM Board b")
+	Long findMaxBoardNo();
+
+	/**
+	 * 지정한 게시글 번호 구간의 댓글 수를 실제 댓글 개수로 다시 계산
+	 * 구간마다 별도 트랜잭션으로 실행하여 잠금 범위를 제한합니다.
+	 *
+	 * @param fromNo 시작 게시글 번호 (포함)
+	 * @param toNo 끝 게시글 번호 (포함)
+	 * @return 갱신된 행 수
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE Board b SET b.commentCount ="
+			+ " (SELECT COUNT(c) FROM Comment c WHERE c.board.boardNo = b.boardNo)"
+			+ " WHERE b.boardNo BETWEEN :fromNo AND :toNo")
+	int recalculateCommentCounts(@Param("fromNo") Long fromNo, @Param("toNo") Long toNo);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.example.demo.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.demo.entity.BoardViewerSketch;
+
+public interface BoardViewerSketchRepository extends JpaRepository<BoardViewerSketch, Long> {
+	// 게시글 번호(PK)로 스케치 조회/저장 - 기본 CRUD만 사용
+}
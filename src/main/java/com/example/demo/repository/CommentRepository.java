@@ -1,8 +1,14 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -13,4 +19,136 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     
     // 💡 참고: order by CreateDtAsc를 붙여 작성일 순으로 정렬합니다.
     // 2. 🚨🚨🚨 특정 게시글 번호에 해당하는 댓글의 개수를 세는 메서드 추가 🚨🚨🚨
-	long countByBoardBoardNo(Long boardNo) ;}
\ No newline at end of file
+	long countByBoardBoardNo(Long boardNo) ;
+
+	/**
+	 * 스레드 순서(thread_path)로 커서 이후 댓글 조회
+	 * IDX_COMMENT_BOARD_PATH(board_no, thread_path) 범위 스캔 한 번으로 답글까지 출력 순서대로 읽습니다.
+	 *
+	 * @param boardNo 게시글 번호
+	 * @param afterPath 이전 페이지 마지막 댓글 경로 (첫 페이지는 빈 문자열)
+	 * @param pageable 조회 건수 (PageRequest.of(0, size + 1))
+	 * @return 댓글 목록
+	 */
+	@Query("SELECT c FROM Comment c WHERE c.board.boardNo = :boardNo AND c.threadPath > :afterPath"
+			+ " ORDER BY c.threadPath ASC")
+	List<Comment> findThreadPage(@Param("boardNo") Long boardNo,
+			@Param("afterPath") String afterPath,
+			Pageable pageable);
+
+	/**
+	 * 최상위 댓글만 커서 이후 조회 (답글은 접힌 상태, replyCount로 표시)
+	 * IDX_COMMENT_BOARD_DEPTH_PATH(board_no, depth, thread_path) 범위 스캔을 사용합니다.
+	 *
+	 * @param boardNo 게시글 번호
+	 * @param afterPath 이전 페이지 마지막 댓글 경로 (첫 페이지는 빈 문자열)
+	 * @param pageable 조회 건수 (PageRequest.of(0, size + 1))
+	 * @return 최상위 댓글 목록
+	 */
+	@Query("SELECT c FROM Comment c WHERE c.board.boardNo = :boardNo AND c.depth = 0"
+			+ " AND c.threadPath > :afterPath ORDER BY c.threadPath ASC")
+	List<Comment> findRootPage(@Param("boardNo") Long boardNo,
+			@Param("afterPath") String afterPath,
+			Pageable pageable);
+
+	/**
+	 * 하위 트리(모든 자손 답글)를 커서 이후부터 조회
+	 *
+	 * @param boardNo 게시글 번호
+	 * @param afterPath 하위 트리 하한 또는 이전 페이지 마지막 댓글 경로 (이 값 초과)
+	 * @param upperPath 하위 트리 상한 (이 값 미만)
+	 * @param pageable 조회 건수 (PageRequest.of(0, size + 1))
+	 * @return 답글 목록 (출력 순서)
+	 */
+	@Query("SELECT c FROM Comment c WHERE c.board.boardNo = :boardNo"
+			+ " AND c.threadPath > :afterPath AND c.threadPath < :upperPath"
+			+ " ORDER BY c.threadPath ASC")
+	List<Comment> findSubtreePage(@Param("boardNo") Long boardNo,
+			@Param("afterPath") String afterPath,
+			@Param("upperPath") String upperPath,
+			Pageable pageable);
+
+	/**
+	 * 하위 트리(모든 자손 답글) 일괄 삭제
+	 *
+	 * @param boardNo 게시글 번호
+	 * @param lowerPath 하위 트리 하한 (이 값 초과)
+	 * @param upperPath 하위 트리 상한 (이 값 미만)
+	 * @return 삭제된 행 수
+	 */
+	@Modifying
+	@Query("DELETE FROM Comment c WHERE c.board.boardNo = :boardNo"
+			+ " AND c.threadPath > :lowerPath AND c.threadPath < :upperPath")
+	int deleteSubtree(@Param("boardNo") Long boardNo,
+			@Param("lowerPath") String lowerPath,
+			@Param("upperPath") String upperPath);
+
+	/**
+	 * 게시글의 댓글 전체 삭제 (게시글 삭제 시, 엔티티 로딩 없이 DELETE 한 번)
+	 *
+	 * @param boardNo 게시글 번호
+	 * @return 삭제된 행 수
+	 */
+	@Modifying
+	@Query("DELETE FROM Comment c WHERE c.board.boardNo = :boardNo")
+	int deleteAllByBoardNo(@Param("boardNo") Long boardNo);
+
+	/**
+	 * 작성자 본인인 경우에만 댓글 수정 (권한 확인과 수정을 UPDATE 한 번으로 처리)
+	 * 벌크 UPDATE는 Auditing이 동작하지 않으므로 수정일시를 직접 지정합니다.
+	 *
+	 * @param boardNo 게시글 번호 (댓글이 이 게시글에 속해야 함)
+	 * @param commentNo 댓글 번호
+	 * @param authorNo 현재 사용자 번호 (작성자여야 함)
+	 * @param content 새 내용
+	 * @param modifyDt 수정일시
+	 * @return 변경된 행 수 (0이면 댓글이 없거나 작성자가 아님)
+	 */
+	@Modifying
+	@Query("UPDATE Comment c SET c.content = :content, c.modifyDt = :modifyDt"
+			+ " WHERE c.commentNo = :commentNo AND c.board.boardNo = :boardNo AND c.authorNo = :authorNo")
+	int updateContentIfAuthor(@Param("boardNo") Long boardNo, @Param("commentNo") Long commentNo,
+			@Param("authorNo") Long authorNo, @Param("content") String content,
+			@Param("modifyDt") LocalDateTime modifyDt);
+
+	/**
+	 * 댓글이 해당 게시글에 존재하는지 확인 (조건부 수정 실패 시 404/403 구분용)
+	 */
+	boolean existsByCommentNoAndBoardBoardNo(Long commentNo, Long boardNo);
+
+	/**
+	 * 답글 수 증감 (UPDATE 한 번으로 처리, 엔티티 재조회 없음)
+	 *
+	 * @param commentNo 부모 댓글 번호
+	 * @param delta 증감값 (+1 / -1)
+	 * @return 갱신된 행 수
+	 */
+	@Modifying
+	@Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.commentNo = :commentNo")
+	int addReplyCount(@Param("commentNo") Long commentNo, @Param("delta") int delta);
+
+	/**
+	 * 가장 큰 댓글 번호 (경로 보정 구간 분할용)
+	 */
+	@Query("SELECT MAX(c.commentNo) FROM Comment c")
+	Long findMaxCommentNo();
+
+	/**
+	 * 경로가 없는 댓글 존재 여부 (시작 시 보정 필요 여부 확인용)
+	 */
+	boolean existsByThreadPathIsNull();
+
+	/**
+	 * 스레드 도입 이전 댓글(경로 없음)을 최상위 댓글 경로로 채움
+	 * 구간마다 별도 트랜잭션으로 실행합니다.
+	 *
+	 * @param fromNo 시작 댓글 번호 (포함)
+	 * @param toNo 끝 댓글 번호 (포함)
+	 * @return 갱신된 행 수
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE TB_COMMENT SET thread_path = LPAD(comment_no, " + Comment.PATH_SEGMENT_LENGTH + ", '0')"
+			+ " WHERE thread_path IS NULL AND comment_no BETWEEN :fromNo AND :toNo", nativeQuery = true)
+	int backfillThreadPaths(@Param("fromNo") Long fromNo, @Param("toNo") Long toNo);
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.example.demo.security;
+
+import com.example.demo.exception.PasswordHashingRejectedException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * 크기가 제한된 전용 스레드 풀에서 해싱을 실행하는 PasswordEncoder
+ *
+ * 역할:
+ * 1. 로그인/회원가입의 BCrypt 연산을 poolSize개 스레드로 제한하여 조회 요청의 CPU를 보호
+ * 2. 대기 큐(queueCapacity)가 가득 차면 기다리지 않고 즉시 거절 (PasswordHashingRejectedException → 503)
+ * 3. 대기를 포함해 timeoutMs 안에 끝나지 않으면 작업을 취소하고 거절
+ * 4. 해싱 시간, 대기 시간, 큐 길이, 거절 건수 지표 제공
+ *
+ * 요청 스레드는 결과를 기다리는 동안 CPU를 쓰지 않으며, 동시에 기다릴 수 있는 요청 수도
+ * poolSize + queueCapacity로 제한되어 로그인이 몰려도 나머지 요청 스레드는 비어 있습니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong hashNanos = new AtomicLong();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+
+    /**
+     * @param delegate 실제 해싱을 수행할 인코더 (BCryptPasswordEncoder)
+     * @param poolSize 해싱 스레드 수
+     * @param queueCapacity 대기 큐 크기 (초과 시 즉시 거절)
+     * @param timeoutMs 대기 + 해싱 최대 시간 (밀리초)
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, long timeoutMs) {
+        this.delegate = delegate;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 문자열의 강도 값만 비교하므로 해싱 풀을 거치지 않음
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 해싱 풀 현황 (관리자 지표용)
+     *
+     * @return 풀 크기, 실행/대기 중인 작업 수, 처리/거절 건수, 평균/최대 해싱 시간, 평균 대기 시간
+     */
+    public Map<String, Object> getStats() {
+        long completed = completedCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolSize", executor.getMaximumPoolSize());
+        stats.put("activeCount", executor.getActiveCount());
+        stats.put("queueDepth", executor.getQueue().size());
+        stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.put("completedCount", completed);
+        stats.put("rejectedCount", rejectedCount.get());
+        stats.put("timedOutCount", timedOutCount.get());
+        stats.put("avgHashMs", completed == 0 ? 0.0 : hashNanos.get() / 1_000_000.0 / completed);
+        stats.put("maxHashMs", maxHashNanos.get() / 1_000_000.0);
+        stats.put("avgWaitMs", completed == 0 ? 0.0 : waitNanos.get() / 1_000_000.0 / completed);
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Callable<T> hashing) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    hashNanos.addAndGet(elapsed);
+                    maxHashNanos.accumulate(elapsed);
+                    waitNanos.addAndGet(startedAt - submittedAt);
+                    completedCount.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new PasswordHashingRejectedException("로그인 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOutCount.incrementAndGet();
+            throw new PasswordHashingRejectedException("로그인 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("로그인 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 목록(컬렉션) 버전 관리
+ *
+ * 역할:
+ * 1. 게시글 작성/수정/삭제, 댓글 작성/삭제, 좋아요 변경 시 버전 증가
+ * 2. 목록 API는 (버전, 페이지, 크기)로 ETag를 만들어 변경이 없으면 DB 조회 없이 304 응답
+ *
+ * 재시작 후에도 이전 ETag와 겹치지 않도록 시작 시각(ms)을 초기값으로 사용합니다.
+ *
+ * 버전은 쓰기를 처리한 서버에서만 증가하므로, 현재 시각을 max-staleness-ms 단위로 자른 구간 번호를 함께 붙입니다.
+ * 다른 서버에서 발생한 변경은 늦어도 다음 구간에서 새 ETag로 반영됩니다.
+ */
+@Component
+public class BoardCollectionVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    private final long maxStalenessMs;
+
+    public BoardCollectionVersion(@Value("${board.list-version.max-staleness-ms:10000}") long maxStalenessMs) {
+        this.maxStalenessMs = Math.max(maxStalenessMs, 1);
+    }
+
+    /**
+     * 현재 버전 조회
+     * @return 목록 버전 (예: "1700000000123.170000000")
+     */
+    public String current() {
+        return version.get() + "." + System.currentTimeMillis() / maxStalenessMs;
+    }
+
+    /**
+     * 버전 증가
+     * 트랜잭션 안에서 호출되면 커밋 이후에 증가시켜, 커밋 전 데이터가 새 ETag로 캐시되는 것을 막습니다.
+     */
+    public void bumpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.repository.BoardRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 근사 총 개수 캐시 서비스
+ *
+ * 역할:
+ * 1. 목록 요청마다 SELECT COUNT(*)를 실행하지 않도록 총 개수를 메모리에 보관
+ * 2. 게시글 작성/삭제가 커밋되면 증감하고, 주기적으로 DB 값으로 다시 맞춤
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardCountService {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final BoardRepository boardRepository;
+
+    // 근사 총 개수 (아직 한 번도 계산하지 않았으면 -1)
+    private final AtomicLong approximateTotal = new AtomicLong(NOT_LOADED);
+
+    /**
+     * 근사 총 개수 조회
+     * 최초 호출 시에만 COUNT 쿼리를 실행합니다.
+     *
+     * @return 게시글 근사 총 개수
+     */
+    public long getApproximateTotal() {
+        long total = approximateTotal.get();
+        if (total == NOT_LOADED) {
+            refresh();
+            total = approximateTotal.get();
+        }
+        return total;
+    }
+
+    /**
+     * 게시글 작성 시 호출
+     * 트랜잭션 안에서 호출되면 커밋 이후에 증가시켜, 롤백된 작성이 개수에 남지 않도록 합니다.
+     */
+    public void incrementAfterCommit() {
+        runAfterCommit(this::increment);
+    }
+
+    /**
+     * 게시글 삭제 시 호출
+     * 트랜잭션 안에서 호출되면 커밋 이후에 감소시킵니다.
+     */
+    public void decrementAfterCommit() {
+        runAfterCommit(this::decrement);
+    }
+
+    /**
+     * DB의 실제 개수로 캐시 갱신 (백그라운드 주기 실행)
+     * 롤백 등으로 생긴 오차를 보정합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.count-cache.refresh-ms:300000}")
+    public void refresh() {
+        approximateTotal.set(boardRepository.count());
+    }
+
+    private void increment() {
+        approximateTotal.updateAndGet(total -> total == NOT_LOADED ? NOT_LOADED : total + 1);
+    }
+
+    private void decrement() {
+        approximateTotal.updateAndGet(total -> total == NOT_LOADED ? NOT_LOADED : Math.max(0, total - 1));
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
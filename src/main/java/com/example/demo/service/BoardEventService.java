@@ -0,0 +1,410 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.demo.dto.BoardActivityEventDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 실시간 활동 이벤트(SSE) 서비스
+ *
+ * 역할:
+ * 1. 게시글별/전체 구독자(SseEmitter) 등록 관리 (전체/클라이언트별 구독자 수 상한)
+ * 2. 서비스 계층에서 커밋 이후에 발생한 활동을 게시글별로 모아둠
+ * 3. 주기(tick)마다 게시글당 최대 1개의 이벤트로 합쳐 전송 (전체 피드는 주기당 1개)
+ * 4. 주기적인 heartbeat로 끊어진 연결 정리
+ *
+ * 구독자당 스레드나 버퍼를 두지 않고 SseEmitter 참조만 보관하며,
+ * 이벤트 JSON은 게시글당 한 번만 직렬화하여 모든 구독자에게 같은 문자열을 보냅니다.
+ * 실제 전송은 구독자 send-batch-size명씩 묶어 boardEventExecutor에서 실행하므로, 느린 구독자가 스케줄러 스레드를 막지 않고
+ * 구독자가 수만 명이어도 전송 큐에는 (구독자 수 / 배치 크기)개의 작업만 쌓입니다.
+ * 이전 전송이 끝나지 않은 구독자는 그 주기의 이벤트를 건너뜁니다. (구독자당 대기/실행 중인 전송은 최대 1개)
+ * 게시글 존재 확인은 JDBC로 한 번만 조회합니다. (Open-in-view의 EntityManager가 구독 시간 동안 커넥션을 붙잡지 않도록)
+ *
+ * 전체 상한은 Tomcat 최대 연결 수(server.tomcat.max-connections)의 3/4을 넘지 않도록 보정하여,
+ * SSE 연결이 가득 차도 일반 요청을 받을 연결이 남도록 합니다.
+ */
+@Slf4j
+@Service
+public class BoardEventService {
+
+    private static final String BOARD_EVENT_NAME = "board-activity";
+    private static final String GLOBAL_EVENT_NAME = "activity";
+
+    private static final String BOARD_EXISTS_SQL = "SELECT COUNT(*) FROM TB_BOARD WHERE board_no = ?";
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor boardEventExecutor;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerClient;
+    private final int sendBatchSize;
+    private final long emitterTimeoutMs;
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // 클라이언트 키(IP) -> 구독 수 (0이 되면 키 제거)
+    private final ConcurrentHashMap<String, Integer> clientSubscriberCounts = new ConcurrentHashMap<>();
+
+    // 구독자 -> 클라이언트 키 (구독 해제 시 클라이언트별 구독 수 반환용)
+    private final ConcurrentHashMap<SseEmitter, String> emitterClientKeys = new ConcurrentHashMap<>();
+
+    // boardNo -> 해당 게시글 구독자 (구독자가 없으면 키 제거)
+    private final ConcurrentHashMap<Long, Set<SseEmitter>> boardSubscribers = new ConcurrentHashMap<>();
+
+    // 전체 피드 구독자
+    private final Set<SseEmitter> globalSubscribers = ConcurrentHashMap.newKeySet();
+
+    // boardNo -> 아직 전송되지 않은 활동 (주기마다 비움)
+    private final ConcurrentHashMap<Long, PendingActivity> pendingActivities = new ConcurrentHashMap<>();
+
+    // 전송 작업이 실행 중이거나 대기 중인 구독자
+    private final Set<SseEmitter> sendingEmitters = ConcurrentHashMap.newKeySet();
+
+    public BoardEventService(ObjectMapper objectMapper,
+                             JdbcTemplate jdbcTemplate,
+                             @Qualifier("boardEventExecutor") Executor boardEventExecutor,
+                             @Value("${board.events.max-subscribers:30000}") int maxSubscribers,
+                             @Value("${board.events.max-subscribers-per-client:20}") int maxSubscribersPerClient,
+                             @Value("${board.events.send-batch-size:500}") int sendBatchSize,
+                             @Value("${server.tomcat.max-connections:8192}") int maxConnections,
+                             @Value("${board.events.timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.boardEventExecutor = boardEventExecutor;
+        this.maxSubscribers = Math.min(maxSubscribers, maxConnections / 4 * 3);
+        this.maxSubscribersPerClient = maxSubscribersPerClient;
+        this.sendBatchSize = Math.max(sendBatchSize, 1);
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        if (this.maxSubscribers < maxSubscribers) {
+            log.warn("SSE 구독자 상한을 Tomcat 최대 연결 수에 맞춰 {} -> {}로 줄였습니다.", maxSubscribers, this.maxSubscribers);
+        }
+    }
+
+    /**
+     * 게시글 존재 여부 (구독 전 확인)
+     * 이미 구독자가 있는 게시글은 DB를 조회하지 않습니다.
+     * @param boardNo 게시글 번호
+     * @return 존재하면 true
+     */
+    public boolean boardExists(Long boardNo) {
+        if (boardSubscribers.containsKey(boardNo)) {
+            return true;
+        }
+        Integer count = jdbcTemplate.queryForObject(BOARD_EXISTS_SQL, Integer.class, boardNo);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 게시글 구독
+     * @param boardNo 게시글 번호 (boardExists로 확인한 값)
+     * @param clientKey 클라이언트 키 (클라이언트별 상한 적용, 예: IP)
+     * @return SseEmitter (전체/클라이언트별 구독자 수 상한 초과 시 null)
+     */
+    public SseEmitter subscribe(Long boardNo, String clientKey) {
+        if (!reserveSlot(clientKey)) {
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitterClientKeys.put(emitter, clientKey);
+        boardSubscribers.compute(boardNo, (key, emitters) -> {
+            Set<SseEmitter> set = emitters != null ? emitters : ConcurrentHashMap.<SseEmitter>newKeySet();
+            set.add(emitter);
+            return set;
+        });
+        registerCleanup(emitter, () -> removeBoardSubscriber(boardNo, emitter));
+        return emitter;
+    }
+
+    /**
+     * 전체 피드 구독
+     * @param clientKey 클라이언트 키 (클라이언트별 상한 적용, 예: IP)
+     * @return SseEmitter (전체/클라이언트별 구독자 수 상한 초과 시 null)
+     */
+    public SseEmitter subscribeAll(String clientKey) {
+        if (!reserveSlot(clientKey)) {
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitterClientKeys.put(emitter, clientKey);
+        globalSubscribers.add(emitter);
+        registerCleanup(emitter, () -> removeGlobalSubscriber(emitter));
+        return emitter;
+    }
+
+    /**
+     * 활동 발행 (트랜잭션 안이면 커밋 이후에 반영)
+     * @param boardNo 게시글 번호
+     * @param type 활동 종류
+     */
+    public void publishAfterCommit(Long boardNo, BoardActivityEventDto.Type type) {
+        publishAfterCommit(boardNo, type, null, 0);
+    }
+
+    /**
+     * 활동 발행 (트랜잭션 안이면 커밋 이후에 반영)
+     * @param boardNo 게시글 번호
+     * @param type 활동 종류
+     * @param likeCount 최신 좋아요 수 (좋아요 변경이 아니면 null)
+     * @param commentDelta 댓글 수 증감
+     */
+    public void publishAfterCommit(Long boardNo, BoardActivityEventDto.Type type, Integer likeCount, int commentDelta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(boardNo, type, likeCount, commentDelta);
+                }
+            });
+        } else {
+            record(boardNo, type, likeCount, commentDelta);
+        }
+    }
+
+    /**
+     * 모아둔 활동을 게시글당 1개의 이벤트로 전송 (전송은 배치 단위로 boardEventExecutor에서 실행)
+     */
+    @Scheduled(fixedDelayString = "${board.events.tick-ms:1000}")
+    public void flush() {
+        if (pendingActivities.isEmpty()) {
+            return;
+        }
+
+        List<BoardActivityEventDto> events = new ArrayList<>();
+        for (Long boardNo : pendingActivities.keySet()) {
+            PendingActivity activity = pendingActivities.remove(boardNo);
+            if (activity != null) {
+                events.add(activity.toEvent(boardNo));
+            }
+        }
+
+        DeliveryBatch batch = new DeliveryBatch();
+        for (BoardActivityEventDto event : events) {
+            Set<SseEmitter> emitters = boardSubscribers.get(event.getBoardNo());
+            if (emitters != null && !emitters.isEmpty()) {
+                String json = toJson(event);
+                Long boardNo = event.getBoardNo();
+                Supplier<SseEmitter.SseEventBuilder> message = () -> SseEmitter.event().name(BOARD_EVENT_NAME).data(json);
+                for (SseEmitter emitter : emitters) {
+                    batch.add(emitter, message, () -> removeBoardSubscriber(boardNo, emitter));
+                }
+            }
+        }
+
+        if (!globalSubscribers.isEmpty() && !events.isEmpty()) {
+            String json = toJson(events);
+            Supplier<SseEmitter.SseEventBuilder> message = () -> SseEmitter.event().name(GLOBAL_EVENT_NAME).data(json);
+            for (SseEmitter emitter : globalSubscribers) {
+                batch.add(emitter, message, () -> removeGlobalSubscriber(emitter));
+            }
+        }
+        batch.submit();
+    }
+
+    /**
+     * 연결 유지용 heartbeat (끊어진 연결은 전송 실패로 감지하여 제거)
+     */
+    @Scheduled(fixedDelayString = "${board.events.heartbeat-ms:30000}")
+    public void heartbeat() {
+        DeliveryBatch batch = new DeliveryBatch();
+        Supplier<SseEmitter.SseEventBuilder> ping = () -> SseEmitter.event().comment("ping");
+        boardSubscribers.forEach((boardNo, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                batch.add(emitter, ping, () -> removeBoardSubscriber(boardNo, emitter));
+            }
+        });
+        for (SseEmitter emitter : globalSubscribers) {
+            batch.add(emitter, ping, () -> removeGlobalSubscriber(emitter));
+        }
+        batch.submit();
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 연결 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        boardSubscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        globalSubscribers.forEach(SseEmitter::complete);
+    }
+
+    private void record(Long boardNo, BoardActivityEventDto.Type type, Integer likeCount, int commentDelta) {
+        // 받을 구독자가 없으면 모으지 않음
+        if (globalSubscribers.isEmpty() && !boardSubscribers.containsKey(boardNo)) {
+            return;
+        }
+        pendingActivities.compute(boardNo, (key, activity) -> {
+            PendingActivity merged = activity != null ? activity : new PendingActivity();
+            merged.types.add(type);
+            if (likeCount != null) {
+                merged.likeCount = likeCount;
+            }
+            merged.commentDelta += commentDelta;
+            return merged;
+        });
+    }
+
+    private boolean reserveSlot(String clientKey) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return false;
+        }
+
+        boolean[] reserved = { false };
+        clientSubscriberCounts.compute(clientKey, (key, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= maxSubscribersPerClient) {
+                return count;
+            }
+            reserved[0] = true;
+            return current + 1;
+        });
+        if (!reserved[0]) {
+            subscriberCount.decrementAndGet();
+        }
+        return reserved[0];
+    }
+
+    private void releaseSlot(SseEmitter emitter) {
+        subscriberCount.decrementAndGet();
+        String clientKey = emitterClientKeys.remove(emitter);
+        if (clientKey != null) {
+            clientSubscriberCounts.computeIfPresent(clientKey, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private void registerCleanup(SseEmitter emitter, Runnable cleanup) {
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(e -> cleanup.run());
+    }
+
+    private void removeBoardSubscriber(Long boardNo, SseEmitter emitter) {
+        boolean[] removed = { false };
+        boardSubscribers.computeIfPresent(boardNo, (key, emitters) -> {
+            removed[0] = emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        if (removed[0]) {
+            releaseSlot(emitter);
+        }
+    }
+
+    private void removeGlobalSubscriber(SseEmitter emitter) {
+        if (globalSubscribers.remove(emitter)) {
+            releaseSlot(emitter);
+        }
+    }
+
+    private void deliver(Delivery delivery) {
+        try {
+            // SseEventBuilder는 build 시 내부 상태가 바뀌므로 구독자마다 새로 만듦
+            if (!send(delivery.emitter(), delivery.message().get())) {
+                delivery.onFailure().run();
+            }
+        } finally {
+            sendingEmitters.remove(delivery.emitter());
+        }
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 종료된 연결
+            emitter.complete();
+            return false;
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 구독자 한 명에게 보낼 전송 (onFailure: 전송 실패(연결 끊김) 시 구독 해제 작업)
+     */
+    private record Delivery(SseEmitter emitter, Supplier<SseEmitter.SseEventBuilder> message, Runnable onFailure) {
+    }
+
+    /**
+     * 한 주기의 전송을 sendBatchSize개씩 묶어 전송 스레드 풀에 요청 (스케줄러 스레드 안에서만 사용)
+     * 이전 전송이 아직 끝나지 않은 구독자나, 전송 큐가 가득 차 거절된 배치의 구독자는 이번 이벤트를 건너뜁니다.
+     */
+    private final class DeliveryBatch {
+        private List<Delivery> deliveries = new ArrayList<>();
+
+        private void add(SseEmitter emitter, Supplier<SseEmitter.SseEventBuilder> message, Runnable onFailure) {
+            if (!sendingEmitters.add(emitter)) {
+                return;
+            }
+            deliveries.add(new Delivery(emitter, message, onFailure));
+            if (deliveries.size() >= sendBatchSize) {
+                submit();
+            }
+        }
+
+        private void submit() {
+            if (deliveries.isEmpty()) {
+                return;
+            }
+            List<Delivery> batch = deliveries;
+            deliveries = new ArrayList<>();
+            try {
+                boardEventExecutor.execute(() -> batch.forEach(BoardEventService.this::deliver));
+            } catch (RejectedExecutionException e) {
+                batch.forEach(delivery -> sendingEmitters.remove(delivery.emitter()));
+                log.debug("SSE 전송 큐가 가득 차 {}건의 이벤트를 건너뜁니다.", batch.size());
+            }
+        }
+    }
+
+    /**
+     * 한 주기 동안 모은 게시글 활동 (ConcurrentHashMap.compute 안에서만 수정)
+     */
+    private static final class PendingActivity {
+        private final Set<BoardActivityEventDto.Type> types = EnumSet.noneOf(BoardActivityEventDto.Type.class);
+        private Integer likeCount;
+        private int commentDelta;
+
+        private BoardActivityEventDto toEvent(Long boardNo) {
+            return new BoardActivityEventDto(boardNo, types, likeCount, commentDelta);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.dto.BoardLikeStatusDto;
+import com.example.demo.repository.BoardLikeRepository;
+import com.example.demo.util.RoaringBitmap;
+
+/**
+ * 게시글별 좋아요 사용자 메모리 인덱스
+ *
+ * 역할:
+ * 1. 게시글마다 좋아요를 누른 사용자 번호를 압축 비트맵(RoaringBitmap)으로 보관
+ * 2. 좋아요 여부/좋아요 수를 DB 조회 없이 메모리에서 응답
+ * 3. 처음 조회될 때 한 번만 DB에서 적재하고, 이후에는 좋아요 토글 결과를 반영
+ * 4. 전체 추정 메모리가 max-bytes를 넘으면 가장 오래 사용하지 않은 게시글부터 제거
+ *
+ * 토글과 적재는 같은 게시글 잠금(stripe) 안에서 실행되므로, 적재 중인 비트맵이 토글을 놓치지 않습니다.
+ * 다른 서버에서 발생한 토글은 ttl-ms가 지나 다시 적재될 때 반영됩니다.
+ */
+@Component
+public class BoardLikeIndex {
+
+    // 게시글별 직렬화용 잠금 개수 (서로 다른 게시글은 대부분 다른 잠금을 사용)
+    private static final int LOCK_STRIPES = 64;
+
+    private final BoardLikeRepository boardLikeRepository;
+    private final long maxBytes;
+    private final long ttlMs;
+
+    private final ReentrantLock[] boardLocks = createLocks();
+
+    // 접근 순서(LRU) 유지, this로 동기화
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    public BoardLikeIndex(BoardLikeRepository boardLikeRepository,
+                          @Value("${board.like-index.max-bytes:67108864}") long maxBytes,
+                          @Value("${board.like-index.ttl-ms:600000}") long ttlMs) {
+        this.boardLikeRepository = boardLikeRepository;
+        this.maxBytes = maxBytes;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * 게시글 잠금 조회
+     * 좋아요 토글은 이 잠금을 커밋 이후 apply()까지 유지해야 합니다.
+     * @param boardNo 게시글 번호
+     * @return 게시글 번호로 나눈 잠금
+     */
+    public ReentrantLock lockFor(Long boardNo) {
+        return boardLocks[stripeOf(boardNo)];
+    }
+
+    /**
+     * 좋아요 상태 조회 (인덱스에 없으면 DB에서 적재)
+     * @param boardNo 게시글 번호
+     * @param userNo 사용자 번호 (null이면 좋아요 안함으로 처리)
+     * @return 좋아요 상태, 비트맵으로 표현할 수 없는 게시글/사용자면 null (호출 측에서 DB 조회)
+     */
+    public BoardLikeStatusDto getStatus(Long boardNo, Long userNo) {
+        if (userNo != null && !isIndexable(userNo)) {
+            return null;
+        }
+
+        BoardLikeStatusDto status = lookup(boardNo, userNo);
+        if (status != null) {
+            return status;
+        }
+
+        ReentrantLock lock = lockFor(boardNo);
+        lock.lock();
+        try {
+            status = lookup(boardNo, userNo);
+            if (status != null) {
+                return status;
+            }
+            RoaringBitmap bitmap = load(boardNo);
+            if (bitmap == null) {
+                return null;
+            }
+            BoardLikeStatusDto loaded = toStatus(bitmap, userNo);
+            put(boardNo, bitmap);
+            return loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 여러 게시글의 좋아요 상태 일괄 조회
+     * 인덱스에 없는 게시글들은 해당 잠금을 모두 잡은 뒤 한 번의 쿼리로 적재합니다.
+     * 잠금은 항상 stripe 번호 순서로 잡으므로 토글/다른 일괄 조회와 교착되지 않습니다.
+     * @param boardNos 게시글 번호 목록
+     * @param userNo 사용자 번호 (null이면 좋아요 안함으로 처리)
+     * @return 게시글 번호 → 좋아요 상태 (비트맵으로 표현할 수 없는 게시글은 빠짐)
+     */
+    public Map<Long, BoardLikeStatusDto> getStatuses(Collection<Long> boardNos, Long userNo) {
+        Map<Long, BoardLikeStatusDto> statuses = new HashMap<>();
+        if (userNo != null && !isIndexable(userNo)) {
+            return statuses;
+        }
+
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long boardNo : boardNos) {
+            BoardLikeStatusDto status = lookup(boardNo, userNo);
+            if (status != null) {
+                statuses.put(boardNo, status);
+            } else {
+                missing.add(boardNo);
+            }
+        }
+        if (missing.isEmpty()) {
+            return statuses;
+        }
+
+        Set<Integer> stripes = new TreeSet<>();
+        for (Long boardNo : missing) {
+            stripes.add(stripeOf(boardNo));
+        }
+        List<ReentrantLock> locks = new ArrayList<>();
+        try {
+            for (int stripe : stripes) {
+                boardLocks[stripe].lock();
+                locks.add(boardLocks[stripe]);
+            }
+
+            // 잠금을 기다리는 동안 다른 요청이 적재했을 수 있으므로 다시 확인
+            List<Long> toLoad = new ArrayList<>();
+            for (Long boardNo : missing) {
+                BoardLikeStatusDto status = lookup(boardNo, userNo);
+                if (status != null) {
+                    statuses.put(boardNo, status);
+                } else {
+                    toLoad.add(boardNo);
+                }
+            }
+
+            if (!toLoad.isEmpty()) {
+                loadAll(toLoad).forEach((boardNo, bitmap) -> {
+                    statuses.put(boardNo, toStatus(bitmap, userNo));
+                    put(boardNo, bitmap);
+                });
+            }
+        } finally {
+            for (ReentrantLock lock : locks) {
+                lock.unlock();
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * 커밋된 좋아요 토글 결과 반영 (적재되지 않은 게시글은 무시)
+     * lockFor(boardNo) 잠금을 잡은 상태에서 호출해야 합니다.
+     * @param boardNo 게시글 번호
+     * @param userNo 사용자 번호
+     * @param liked 토글 후 좋아요 상태
+     */
+    public synchronized void apply(Long boardNo, Long userNo, boolean liked) {
+        Entry entry = entries.get(boardNo);
+        if (entry == null) {
+            return;
+        }
+        if (!isIndexable(userNo)) {
+            // 표현할 수 없는 사용자가 생기면 해당 게시글은 인덱스에서 제외
+            remove(boardNo);
+            return;
+        }
+
+        boolean changed = liked
+                ? entry.bitmap.add(userNo.intValue())
+                : entry.bitmap.remove(userNo.intValue());
+        if (changed) {
+            long bytes = entry.bitmap.sizeInBytes();
+            totalBytes += bytes - entry.bytes;
+            entry.bytes = bytes;
+            evictOverBudget();
+        }
+    }
+
+    /**
+     * 게시글 인덱스 제거 (다음 조회 시 다시 적재)
+     * 적재와 같은 게시글 잠금을 잡고 제거하므로, 진행 중인 적재가 제거 뒤에 다시 캐시되지 않습니다.
+     * @param boardNo 게시글 번호
+     */
+    public void evict(Long boardNo) {
+        ReentrantLock lock = lockFor(boardNo);
+        lock.lock();
+        try {
+            synchronized (this) {
+                remove(boardNo);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 게시글 삭제 시 인덱스 제거
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 삭제 전 좋아요 상태가 남지 않도록 합니다.
+     * @param boardNo 게시글 번호
+     */
+    public void evictAfterCommit(Long boardNo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(boardNo);
+                }
+            });
+        } else {
+            evict(boardNo);
+        }
+    }
+
+    /**
+     * @return 인덱스 현황 (게시글 수, 추정 메모리 사용량, 상한)
+     */
+    public synchronized Map<String, Long> getStats() {
+        return Map.of(
+                "boards", (long) entries.size(),
+                "bytes", totalBytes,
+                "maxBytes", maxBytes);
+    }
+
+    private synchronized BoardLikeStatusDto lookup(Long boardNo, Long userNo) {
+        Entry entry = entries.get(boardNo);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.loadedAt > ttlMs) {
+            remove(boardNo);
+            return null;
+        }
+        return toStatus(entry.bitmap, userNo);
+    }
+
+    private synchronized void put(Long boardNo, RoaringBitmap bitmap) {
+        remove(boardNo);
+        Entry entry = new Entry(bitmap, System.currentTimeMillis(), bitmap.sizeInBytes());
+        entries.put(boardNo, entry);
+        totalBytes += entry.bytes;
+        evictOverBudget();
+    }
+
+    private void remove(Long boardNo) {
+        Entry removed = entries.remove(boardNo);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    private void evictOverBudget() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().bytes;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * 게시글의 좋아요 사용자 번호를 DB에서 읽어 비트맵 생성
+     * 정렬 후 추가하여 구간별로 뒤에 이어 붙이도록 합니다.
+     * @return 비트맵 (int 범위를 벗어난 사용자 번호가 있으면 null)
+     */
+    private RoaringBitmap load(Long boardNo) {
+        List<Long> userNos = boardLikeRepository.findUserNosByBoardNo(boardNo);
+        int[] values = new int[userNos.size()];
+        for (int i = 0; i < values.length; i++) {
+            Long userNo = userNos.get(i);
+            if (!isIndexable(userNo)) {
+                return null;
+            }
+            values[i] = userNo.intValue();
+        }
+        return toBitmap(values);
+    }
+
+    /**
+     * 여러 게시글의 좋아요 사용자 번호를 한 번의 쿼리로 읽어 비트맵 생성
+     * @return 게시글 번호 → 비트맵 (int 범위를 벗어난 사용자 번호가 있는 게시글은 빠짐)
+     */
+    private Map<Long, RoaringBitmap> loadAll(List<Long> boardNos) {
+        Map<Long, List<Long>> userNosByBoard = new HashMap<>();
+        for (Long boardNo : boardNos) {
+            userNosByBoard.put(boardNo, new ArrayList<>());
+        }
+        for (Object[] row : boardLikeRepository.findBoardAndUserNosByBoardNos(boardNos)) {
+            userNosByBoard.get((Long) row[0]).add((Long) row[1]);
+        }
+
+        Map<Long, RoaringBitmap> bitmaps = new HashMap<>();
+        userNosByBoard.forEach((boardNo, userNos) -> {
+            if (userNos.stream().allMatch(BoardLikeIndex::isIndexable)) {
+                bitmaps.put(boardNo, toBitmap(userNos.stream().mapToInt(Long::intValue).toArray()));
+            }
+        });
+        return bitmaps;
+    }
+
+    private static RoaringBitmap toBitmap(int[] values) {
+        Arrays.sort(values);
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    private static BoardLikeStatusDto toStatus(RoaringBitmap bitmap, Long userNo) {
+        boolean liked = userNo != null && bitmap.contains(userNo.intValue());
+        return new BoardLikeStatusDto(liked, (int) bitmap.cardinality());
+    }
+
+    private static boolean isIndexable(Long userNo) {
+        return userNo != null && userNo >= 0 && userNo <= Integer.MAX_VALUE;
+    }
+
+    private static int stripeOf(Long boardNo) {
+        return Math.floorMod(boardNo.hashCode(), LOCK_STRIPES);
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private static final class Entry {
+        private final RoaringBitmap bitmap;
+        private final long loadedAt;
+        private long bytes;
+
+        private Entry(RoaringBitmap bitmap, long loadedAt, long bytes) {
+            this.bitmap = bitmap;
+            this.loadedAt = loadedAt;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -1,88 +1,220 @@
 package com.example.demo.service;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.example.demo.dto.BoardActivityEventDto;
 import com.example.demo.dto.BoardLikeStatusDto;
 import com.example.demo.dto.BoardLikeToggleDto;
-import com.example.demo.entity.Board;
+import com.example.demo.dto.BoardLikerResponseDto;
+import com.example.demo.dto.CursorPageResponseDto;
 import com.example.demo.entity.BoardLike;
 import com.example.demo.entity.User;
+import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.BoardLikeRepository;
 import com.example.demo.repository.BoardRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.util.CursorUtil;
+import com.example.demo.util.MaskingUtil;
 import lombok.RequiredArgsConstructor;
 
 /**
  * 게시글 좋아요 비즈니스 로직 처리 서비스
+ *
+ * 좋아요 토글은 유니크 키 (board_no, user_no)에 대한 DELETE 또는 INSERT IGNORE 한 번과
+ * like_count = like_count ± 1 UPDATE로 처리하며, 매번 COUNT로 다시 세지 않습니다.
+ * 같은 게시글의 토글은 게시글 번호로 나눈 잠금(stripe)으로 직렬화하여
+ * 인기 게시글에서 좋아요 행의 갭 락 경합/교착 상태를 피합니다.
+ * 좋아요 여부/개수 조회는 BoardLikeIndex의 메모리 비트맵에서 응답합니다.
  */
 @Service
 @RequiredArgsConstructor
 public class BoardLikeService {
 
+    // 좋아요 누른 사람 목록 최대 페이지 크기
+    private static final int MAX_LIKER_PAGE_SIZE = 100;
+
     private final BoardLikeRepository boardLikeRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final BoardCollectionVersion boardCollectionVersion;
+    private final BoardEventService boardEventService;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardLikeIndex boardLikeIndex;
 
     /**
      * 좋아요 토글 (추가/취소)
+     * 잠금은 커밋 후 인덱스 반영까지 유지해야 하므로 트랜잭션 바깥에서 잡습니다.
      *
      * @param boardNo 게시글 번호
      * @param userNo 사용자 번호
      * @return BoardLikeToggleDto 토글 결과 (좋아요 상태, 총 개수)
+     * @throws ResourceNotFoundException 게시글이 없는 경우
      */
-    @Transactional
     public BoardLikeToggleDto toggleLike(Long boardNo, Long userNo) {
-        // 1. 게시글 존재 여부 확인
-        Board board = boardRepository.findById(boardNo)
-            .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-
-        // 2. 사용자 존재 여부 확인
-        User user = userRepository.findById(userNo)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-        // 3. 기존 좋아요 확인
-        Optional<BoardLike> existingLike = boardLikeRepository
-            .findByBoard_BoardNoAndUser_UserNo(boardNo, userNo);
+        ReentrantLock lock = boardLikeIndex.lockFor(boardNo);
+        lock.lock();
+        try {
+            BoardLikeToggleDto result = transactionTemplate.execute(status -> toggleLikeInTransaction(boardNo, userNo));
+            boardLikeIndex.apply(boardNo, userNo, result.isLiked());
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
 
+    private BoardLikeToggleDto toggleLikeInTransaction(Long boardNo, Long userNo) {
+        // 1. 기존 좋아요가 있으면 삭제 (취소), 없으면 추가 (중복 INSERT는 무시)
+        int delta;
         boolean isLiked;
-        if (existingLike.isPresent()) {
-            // 4-1. 좋아요 취소
-            boardLikeRepository.delete(existingLike.get());
+        if (boardLikeRepository.deleteLike(boardNo, userNo) > 0) {
+            delta = -1;
             isLiked = false;
         } else {
-            // 4-2. 좋아요 추가
-            BoardLike newLike = new BoardLike(board, user);
-            boardLikeRepository.save(newLike);
+            // 다른 서버에서 동시에 추가한 경우 0 → 이미 좋아요 상태이므로 수는 그대로
+            delta = boardLikeRepository.insertLikeIgnoringDuplicate(boardNo, userNo);
             isLiked = true;
         }
 
-        // 5. 실제 좋아요 수 계산 (정확한 값)
-        int actualLikeCount = (int) boardLikeRepository.countByBoard_BoardNo(boardNo);
+        // 2. 게시글의 좋아요 수를 DB에서 ±1 (게시글이 없으면 0행 → 롤백)
+        if (delta != 0 && boardRepository.addLikeCount(boardNo, delta) == 0) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + boardNo);
+        }
 
-        // 6. 게시글의 좋아요 수 업데이트 (캐시용)
-        board.setLikeCount(actualLikeCount);
-        boardRepository.save(board);
+        // 3. 변경된 좋아요 수 조회 (PK 조회, COUNT 없음)
+        int likeCount = boardRepository.findLikeCountByBoardNo(boardNo)
+            .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + boardNo));
 
-        return new BoardLikeToggleDto(isLiked, actualLikeCount);
+        if (delta != 0) {
+            boardCollectionVersion.bumpAfterCommit();
+            boardEventService.publishAfterCommit(boardNo, BoardActivityEventDto.Type.LIKE_CHANGED, likeCount, 0);
+        }
+
+        return new BoardLikeToggleDto(isLiked, likeCount);
     }
 
     /**
      * 좋아요 상태 조회
+     * 메모리 인덱스에서 응답하며, 인덱스로 표현할 수 없는 경우에만 DB를 조회합니다.
      *
      * @param boardNo 게시글 번호
      * @param userNo 사용자 번호
      * @return BoardLikeStatusDto 현재 좋아요 상태 (좋아요 여부, 총 개수)
      */
-    @Transactional(readOnly = true)
     public BoardLikeStatusDto getLikeStatus(Long boardNo, Long userNo) {
+        BoardLikeStatusDto indexed = boardLikeIndex.getStatus(boardNo, userNo);
+        return indexed != null ? indexed : getLikeStatusFromDb(boardNo, userNo);
+    }
+
+    /**
+     * 여러 게시글의 좋아요 상태 일괄 조회 (목록 화면의 "내가 좋아요한 글" 표시용)
+     * 인덱스에 적재된 게시글은 DB 조회 없이 응답하고, 나머지는 한 번의 쿼리로 적재합니다.
+     *
+     * @param boardNos 게시글 번호 목록
+     * @param userNo 사용자 번호
+     * @return 게시글 번호 → 좋아요 상태 (요청 순서 유지)
+     */
+    public Map<Long, BoardLikeStatusDto> getLikeStatuses(Collection<Long> boardNos, Long userNo) {
+        Map<Long, BoardLikeStatusDto> indexed = boardLikeIndex.getStatuses(boardNos, userNo);
+
+        Map<Long, BoardLikeStatusDto> statuses = new LinkedHashMap<>();
+        for (Long boardNo : boardNos) {
+            BoardLikeStatusDto status = indexed.get(boardNo);
+            statuses.put(boardNo, status != null ? status : getLikeStatusFromDb(boardNo, userNo));
+        }
+        return statuses;
+    }
+
+    /**
+     * 좋아요 누른 사람 목록 조회 (최신순, 커서 페이징)
+     * like_no 역순 keyset 조회로 좋아요가 많은 게시글도 페이지 크기만큼만 읽고,
+     * 사용자 정보는 서로 다른 사용자 번호만 모아 IN 쿼리 한 번으로 조회합니다.
+     *
+     * @param boardNo 게시글 번호
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     * @return 마스킹된 사용자 목록 페이지
+     * @throws ResourceNotFoundException 게시글이 없는 경우
+     * @throws IllegalArgumentException 잘못된 커서인 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<BoardLikerResponseDto> getLikerPage(Long boardNo, String cursor, int size) {
+        if (!boardRepository.existsById(boardNo)) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + boardNo);
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_LIKER_PAGE_SIZE);
+        Long beforeLikeNo = (cursor == null || cursor.isBlank()) ? Long.MAX_VALUE : CursorUtil.decodeLong(cursor);
+
+        // 1. 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<BoardLike> rows = boardLikeRepository.findLikerPage(boardNo, beforeLikeNo, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<BoardLike> likes = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? CursorUtil.encode(likes.get(likes.size() - 1).getLikeNo()) : null;
+
+        // 2. 사용자 정보 일괄 조회 (user 프록시의 식별자만 사용하므로 개별 로딩 없음)
+        Set<Long> userNos = likes.stream()
+                .map(like -> like.getUser().getUserNo())
+                .collect(Collectors.toSet());
+        Map<Long, User> users = new HashMap<>();
+        if (!userNos.isEmpty()) {
+            for (User user : userRepository.findAllById(userNos)) {
+                users.put(user.getUserNo(), user);
+            }
+        }
+
+        // 3. DTO 변환 (탈퇴 회원은 고정 문구로 마스킹)
+        List<BoardLikerResponseDto> content = likes.stream()
+                .map(like -> {
+                    User user = users.get(like.getUser().getUserNo());
+                    return BoardLikerResponseDto.builder()
+                            .userName(MaskingUtil.maskName(user != null ? user.getName() : "탈퇴 회원"))
+                            .userId(MaskingUtil.maskUserId(user != null ? user.getUserId() : "deleted"))
+                            .likedDt(like.getCreateDt())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return new CursorPageResponseDto<>(content, pageSize, hasNext, nextCursor);
+    }
+
+    private BoardLikeStatusDto getLikeStatusFromDb(Long boardNo, Long userNo) {
         // 1. 현재 사용자의 좋아요 여부 확인
-        boolean isLiked = boardLikeRepository
+        boolean isLiked = userNo != null && boardLikeRepository
             .existsByBoard_BoardNoAndUser_UserNo(boardNo, userNo);
 
-        // 2. 총 좋아요 수 계산
-        int likeCount = (int) boardLikeRepository.countByBoard_BoardNo(boardNo);
+        // 2. 총 좋아요 수 (게시글의 like_count 컬럼, COUNT 쿼리 없음)
+        int likeCount = boardRepository.findLikeCountByBoardNo(boardNo).orElse(0);
 
         return new BoardLikeStatusDto(isLiked, likeCount);
     }
+
+    /**
+     * 비정규화된 좋아요 수(like_count) 일괄 보정
+     * 게시글 번호 구간(1000건) 단위로 실제 좋아요 개수를 다시 계산하며,
+     * 각 구간은 BoardRepository에서 개별 트랜잭션으로 실행됩니다.
+     *
+     * @return 갱신된 게시글 수
+     */
+    public int repairLikeCounts() {
+        Long maxBoardNo = boardRepository.findMaxBoardNo();
+        if (maxBoardNo == null) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (long fromNo = 1; fromNo <= maxBoardNo; fromNo += BoardService.COUNT_REPAIR_BATCH_SIZE) {
+            updated += boardRepository.recalculateLikeCounts(fromNo, fromNo + BoardService.COUNT_REPAIR_BATCH_SIZE - 1);
+        }
+        return updated;
+    }
 }
\ No newline at end of file
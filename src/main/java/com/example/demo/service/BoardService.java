@@ -1,28 +1,33 @@
 package com.example.demo.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.dto.BoardActivityEventDto;
 import com.example.demo.dto.BoardCreateRequestDto;
 import com.example.demo.dto.BoardDetailResponseDto;
 import com.example.demo.dto.BoardListResponseDto;
 import com.example.demo.dto.BoardUpdateRequestDto;
+import com.example.demo.dto.BoardUpdateResponseDto;
+import com.example.demo.dto.CursorPageResponseDto;
+import com.example.demo.dto.SliceResponseDto;
 import com.example.demo.entity.Board;
 import com.example.demo.entity.Role;
 import com.example.demo.entity.User;
+import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.exception.UnauthorizedAccessException;
 import com.example.demo.repository.BoardRepository;
 import com.example.demo.repository.CommentRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.util.CursorUtil;
 import com.example.demo.util.MaskingUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -33,9 +38,18 @@ import lombok.RequiredArgsConstructor;
 public class BoardService {
 	
 	private final BoardRepository boardRepository;
-	private final UserRepository userRepository;
 	private final CommentRepository commentRepository;
+	private final UserRepository userRepository;
+	private final BoardCountService boardCountService;
+	private final BoardViewCountBuffer boardViewCountBuffer;
+	private final BoardUniqueViewService boardUniqueViewService;
+	private final BoardVersionCache boardVersionCache;
+	private final BoardCollectionVersion boardCollectionVersion;
+	private final BoardEventService boardEventService;
+	private final BoardLikeIndex boardLikeIndex;
 	
+	// 댓글 수 보정 작업 시 한 번에 처리할 게시글 번호 구간 크기
+	static final int COUNT_REPAIR_BATCH_SIZE = 1000;
 
 	/**
 	 * 게시글 전체 목록 조회 및 페이징 처리
@@ -49,55 +63,81 @@ public class BoardService {
 	    // 페이지 설정 (PageRequest 직접 사용)
 		Pageable pageable = PageRequest.of(page, size, Sort.by("boardNo").descending());
 	    
-	    Page<Board> boardPaging = boardRepository.findAll(pageable);
-	    
-	    List<BoardListResponseDto> dtoList = boardPaging.getContent().stream()
-	            .map(board -> {
-	            	int commentCount = (int) commentRepository.countByBoardBoardNo(board.getBoardNo());
-	                // 1. 작성자 정보 로드 (User Entity는 Service 내부에서만 사용)
-	                User authorUser = userRepository.findById(board.getAuthorNo()).orElse(null);
-	                
-	                // 탈퇴 회원 처리 및 원본 데이터 준비
-	                String originalName = authorUser != null ? authorUser.getName() : "탈퇴 회원";
-	                String originalUserId = authorUser != null ? authorUser.getUserId() : "deleted";
-	               
-	                String finalName = MaskingUtil.maskName(originalName);
-	                String finalUserId = MaskingUtil.maskUserId(originalUserId);
-
-	                // 3. DTO 빌더를 사용하여 객체 생성 및 반환
-	                return BoardListResponseDto.builder()
-	                        .boardNo(board.getBoardNo())
-	                        .title(board.getTitle())
-	                        .viewCnt(board.getViewCnt())
-	                        .createDt(board.getCreateDt())
-	                        .modifyDt(board.getModifyDt())
-	                        .commentCount(commentCount) 
-	                        
-	                        //finalName/finalUserId 주입
-	                        .authorName(finalName) 
-	                        .authorUserId(finalUserId)
-	                        .authorNo(board.getAuthorNo())
-	                        .build();
-	            })
-	            .collect(Collectors.toList()); 
-
-	    return new PageImpl<>(dtoList, pageable, boardPaging.getTotalElements());
+	    // 작성자 조인 + 댓글 수 서브쿼리를 한 번에 조회 (마스킹은 DTO 생성자에서 처리)
+	    return boardRepository.findBoardListRows(pageable);
+	}
+
+	/**
+	 * COUNT 없는 게시글 목록 조회 (Slice)
+	 * 전체 개수는 BoardCountService에 캐시된 근사값을 사용합니다.
+	 *
+	 * @param page 현재 페이지 번호 (0부터 시작)
+	 * @param size 페이지 크기 (1~100으로 보정)
+	 * @return SliceResponseDto 목록 + hasNext + 근사 총 개수
+	 */
+	@Transactional(readOnly = true)
+	public SliceResponseDto<BoardListResponseDto> getBoardSlice(int page, int size) {
+		int pageNo = Math.max(page, 0);
+		int pageSize = Math.min(Math.max(size, 1), 100);
+		Pageable pageable = PageRequest.of(pageNo, pageSize, Sort.by("boardNo").descending());
+
+		Slice<BoardListResponseDto> slice = boardRepository.findBoardListSlice(pageable);
+
+		return new SliceResponseDto<>(slice.getContent(), pageNo, pageSize, slice.hasNext(),
+				boardCountService.getApproximateTotal());
+	}
+
+	/**
+	 * 커서(keyset) 방식 게시글 목록 조회
+	 * 깊은 페이지에서도 OFFSET 스캔 없이 boardNo 기준으로 바로 이동하며 COUNT 쿼리를 생략합니다.
+	 *
+	 * @param after 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+	 * @param size 페이지 크기
+	 * @return CursorPageResponseDto 목록 + 다음 커서
+	 */
+	@Transactional(readOnly = true)
+	public CursorPageResponseDto<BoardListResponseDto> getBoardListByCursor(String after, int size) {
+		int pageSize = Math.min(Math.max(size, 1), 100);
+		Long cursor = (after == null || after.isBlank()) ? Long.MAX_VALUE : CursorUtil.decodeLong(after);
+
+		// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+		List<BoardListResponseDto> rows = boardRepository.findBoardListRowsBefore(cursor, PageRequest.of(0, pageSize + 1));
+
+		boolean hasNext = rows.size() > pageSize;
+		List<BoardListResponseDto> content = hasNext ? rows.subList(0, pageSize) : rows;
+		String nextCursor = hasNext ? CursorUtil.encode(content.get(content.size() - 1).getBoardNo()) : null;
+
+		return new CursorPageResponseDto<>(content, pageSize, hasNext, nextCursor);
 	}
 	
 	/**
-	 * 게시글 상세 조회 및 DTO 변환
+	 * 게시글 상세 조회 및 DTO 변환 (방문자 기록 없음)
 	 * @param boardNo 조회할 게시글 번호
 	 * @return BoardDetailResponseDto
 	 */
-	@Transactional // 조회수 증가 로직 때문에 @Transactional 유지
+	@Transactional(readOnly = true)
 	public BoardDetailResponseDto getBoardDetail(Long boardNo) {
+		return getBoardDetail(boardNo, null);
+	}
+
+	/**
+	 * 게시글 상세 조회 및 DTO 변환
+	 * @param boardNo 조회할 게시글 번호
+	 * @param viewerKey 고유 방문자 키 (ViewerKeyUtil로 생성, null이면 고유 방문자 기록 안 함)
+	 * @return BoardDetailResponseDto
+	 */
+	@Transactional(readOnly = true) // 조회수는 BoardViewCountBuffer에서 모아서 반영하므로 읽기 전용
+	public BoardDetailResponseDto getBoardDetail(Long boardNo, String viewerKey) {
 		
-		// 1. Board 엔티티 로드 (조회수 증가 로직을 위해)
+		// 1. Board 엔티티 로드 (조회 도중 수정되면 버전을 캐시하지 않도록 세대 번호를 먼저 받음)
+		long versionStamp = boardVersionCache.readStamp();
 		Board board = boardRepository.findById(boardNo)
 	 			.orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. (ID: " + boardNo + ")"));
 		
-		// 2. 조회수 증가 (Dirty Checking)
-		board.setViewCnt(board.getViewCnt() + 1);
+		// 2. 조회수 증가 (메모리 버퍼, DB 반영은 주기적 배치 UPDATE)
+		long pendingViews = boardViewCountBuffer.increment(boardNo);
+		long uniqueViews = boardUniqueViewService.record(boardNo, viewerKey);
+		boardVersionCache.put(boardNo, board.getModifyDt(), versionStamp);
 		
 		// 3. 작성자 정보 로드
 		Long authorNo = board.getAuthorNo();
@@ -118,8 +158,9 @@ public class BoardService {
 				.boardNo(board.getBoardNo())
 				.title(board.getTitle())
 				.content(board.getContent())
-				// 🚨 증가된 viewCnt 사용
-				.viewCnt(board.getViewCnt()) 
+				// 🚨 DB 값 + 아직 반영되지 않은 증가분
+				.viewCnt((int) (board.getViewCnt() + pendingViews)) 
+				.uniqueViewCnt(uniqueViews)
 				.createDt(board.getCreateDt())
 				.modifyDt(board.getModifyDt())
 				
@@ -130,6 +171,27 @@ public class BoardService {
 				.build();
 	}
 	
+	/**
+	 * 게시글 버전(최종 수정일시) 조회 - 조건부 GET 전용
+	 * 메모리 캐시를 먼저 확인하고, 없으면 modifyDt 컬럼만 조회합니다.
+	 * 본문 로드, 작성자 조회, 조회수 증가를 하지 않습니다.
+	 *
+	 * @param boardNo 게시글 번호
+	 * @return 최종 수정일시 (게시글이 없으면 null)
+	 */
+	@Transactional(readOnly = true)
+	public LocalDateTime getBoardVersion(Long boardNo) {
+		LocalDateTime cached = boardVersionCache.get(boardNo);
+		if (cached != null) {
+			return cached;
+		}
+
+		long versionStamp = boardVersionCache.readStamp();
+		LocalDateTime modifyDt = boardRepository.findModifyDtByBoardNo(boardNo).orElse(null);
+		boardVersionCache.put(boardNo, modifyDt, versionStamp);
+		return modifyDt;
+	}
+	
 	/**
      * 새로운 게시글을 생성하고 저장합니다.
      * @param title 제목
@@ -150,6 +212,9 @@ public class BoardService {
         
         // 2. Repository를 통해 MySQL DB에 저장
         this.boardRepository.save(board);
+        boardCountService.incrementAfterCommit();
+        boardCollectionVersion.bumpAfterCommit();
+        boardEventService.publishAfterCommit(board.getBoardNo(), BoardActivityEventDto.Type.BOARD_CREATED);
     }
     
     @Transactional // 🚨 DB 수정 작업이므로 트랜잭션을 적용합니다.
@@ -157,6 +222,9 @@ public class BoardService {
         
         // Board 엔티티의 update 메서드를 호출하여 필드를 변경합니다.
         board.update(title, content); 
+        boardVersionCache.evictAfterCommit(board.getBoardNo());
+        boardCollectionVersion.bumpAfterCommit();
+        boardEventService.publishAfterCommit(board.getBoardNo(), BoardActivityEventDto.Type.BOARD_UPDATED);
     }
     
     /**
@@ -167,6 +235,11 @@ public class BoardService {
     public void deletePost(Board board) {
         // Repository를 사용하여 해당 Board 엔티티를 삭제합니다.
         this.boardRepository.delete(board);
+        boardCountService.decrementAfterCommit();
+        boardVersionCache.evictAfterCommit(board.getBoardNo());
+        boardLikeIndex.evictAfterCommit(board.getBoardNo());
+        boardCollectionVersion.bumpAfterCommit();
+        boardEventService.publishAfterCommit(board.getBoardNo(), BoardActivityEventDto.Type.BOARD_DELETED);
         // 트랜잭션 종료 시 DELETE 쿼리가 실행됩니다.
     }
     /**
@@ -210,24 +283,15 @@ public class BoardService {
 
     /**
      * REST API용 게시글 상세 조회 및 조회수 증가
+     * 관리 중인 엔티티는 변경하지 않고, 대기 중인 조회수 증가분은 DTO에만 반영합니다.
      *
      * @param boardNo 게시글 번호
-     * @return Board 엔티티
+     * @return BoardDetailResponseDto (조회수 = DB 값 + 아직 반영되지 않은 증가분)
      * @throws IllegalArgumentException 게시글을 찾을 수 없는 경우
      */
-    @Transactional
-    public Board getBoardForApi(Long boardNo) {
-        Board board = boardRepository.findById(boardNo)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + boardNo));
-
-        // 조회수 증가
-        board.setViewCnt(board.getViewCnt() + 1);
-        boardRepository.save(board);
-        
-        User authorUser = userRepository.findById(board.getAuthorNo()).orElse(null);
-        board.setAuthorUser(authorUser);
-
-        return board;
+    @Transactional(readOnly = true)
+    public BoardDetailResponseDto getBoardForApi(Long boardNo) {
+        return getBoardDetail(boardNo);
     }
 
     /**
@@ -247,6 +311,9 @@ public class BoardService {
                 .build();
 
         Board savedBoard = boardRepository.save(board);
+        boardCountService.incrementAfterCommit();
+        boardCollectionVersion.bumpAfterCommit();
+        boardEventService.publishAfterCommit(savedBoard.getBoardNo(), BoardActivityEventDto.Type.BOARD_CREATED);
 
         // 작성자 정보 설정
         User authorUser = userRepository.findById(authorNo).orElse(null);
@@ -258,75 +325,86 @@ public class BoardService {
     /**
      * REST API용 게시글 수정 (작성자 권한 체크 포함)
      *
+     * 권한 확인과 수정을 조건부 UPDATE 한 번으로 처리하고,
+     * 변경된 행이 없을 때만 존재 여부를 확인하여 404/403을 구분합니다.
+     * 응답은 요청 값과 UPDATE에 쓴 수정일시로 만들어, 성공 시 실행되는 SQL은 UPDATE 한 번뿐입니다.
+     *
      * @param boardNo 게시글 번호
      * @param updateRequest 수정 요청 DTO
-     * @param currentUserId 현재 로그인한 사용자 ID
-     * @return 수정된 Board 엔티티
-     * @throws IllegalArgumentException 게시글을 찾을 수 없는 경우
-     * @throws IllegalStateException 수정 권한이 없는 경우
+     * @param currentUserNo 현재 로그인한 사용자 번호
+     * @return 수정 결과 DTO
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
+     * @throws UnauthorizedAccessException 수정 권한이 없는 경우
      */
     @Transactional
-    public Board updateBoardForApi(Long boardNo, BoardUpdateRequestDto updateRequest, String currentUserId) {
-        Board board = boardRepository.findById(boardNo)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + boardNo));
-
-        // 작성자 권한 체크
-        User author = userRepository.findById(board.getAuthorNo())
-                .orElseThrow(() -> new IllegalArgumentException("작성자를 찾을 수 없습니다"));
-
-        if (!author.getUserId().equals(currentUserId)) {
-            throw new IllegalStateException("게시글 수정 권한이 없습니다");
+    public BoardUpdateResponseDto updateBoardForApi(Long boardNo, BoardUpdateRequestDto updateRequest, Long currentUserNo) {
+        LocalDateTime modifyDt = LocalDateTime.now();
+        int updated = boardRepository.updateIfAuthor(boardNo, currentUserNo,
+                updateRequest.getTitle(), updateRequest.getContent(),
+                Board.toExcerpt(updateRequest.getContent()), modifyDt);
+
+        if (updated == 0) {
+            if (!boardRepository.existsById(boardNo)) {
+                throw new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + boardNo);
+            }
+            throw new UnauthorizedAccessException("게시글 수정 권한이 없습니다");
         }
 
-        // 게시글 수정 (Builder 패턴 사용)
-     // 기존 객체의 필드만 수정
-        board.setTitle(updateRequest.getTitle());
-        board.setContent(updateRequest.getContent());
-        // modifyDt는 BaseEntity의 @LastModifiedDate가 자동 처리
-
-        Board savedBoard = boardRepository.save(board);
-
-        // 작성자 정보 설정 (이미 조회한 author 사용)
-        savedBoard.setAuthorUser(author);
+        boardVersionCache.evictAfterCommit(boardNo);
+        boardCollectionVersion.bumpAfterCommit();
+        boardEventService.publishAfterCommit(boardNo, BoardActivityEventDto.Type.BOARD_UPDATED);
 
-        return savedBoard;
+        return new BoardUpdateResponseDto(boardNo, updateRequest.getTitle(), updateRequest.getContent(), modifyDt);
     }
 
     /**
      * REST API용 게시글 삭제 (작성자 + ADMIN 권한 체크 포함)
      *
+     * 작성자 번호만 읽는 조회 한 번으로 권한을 확인하고,
+     * 댓글과 게시글은 엔티티 로딩 없이 DELETE 문으로 삭제합니다.
+     *
      * @param boardNo 게시글 번호
-     * @param currentUserId 현재 로그인한 사용자 ID
+     * @param currentUserNo 현재 로그인한 사용자 번호
      * @param currentUserRole 현재 로그인한 사용자 권한
-     * @throws IllegalArgumentException 게시글을 찾을 수 없는 경우
-     * @throws IllegalStateException 삭제 권한이 없는 경우
+     * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
+     * @throws UnauthorizedAccessException 삭제 권한이 없는 경우
      */
     @Transactional
-    public void deleteBoardForApi(Long boardNo, String currentUserId, Role currentUserRole) {
-        Board board = boardRepository.findById(boardNo)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + boardNo));
+    public void deleteBoardForApi(Long boardNo, Long currentUserNo, Role currentUserRole) {
+        Long authorNo = boardRepository.findAuthorNoByBoardNo(boardNo)
+                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + boardNo));
 
-        // ADMIN이면 바로 삭제 허용
-        if (currentUserRole == Role.ADMIN) {
-            boardRepository.delete(board);
-            return;
+        // ADMIN은 모든 게시글 삭제 가능, 일반 사용자는 작성자 본인만 (탈퇴 회원의 게시글은 관리자만)
+        if (currentUserRole != Role.ADMIN && !authorNo.equals(currentUserNo)) {
+            throw new UnauthorizedAccessException("게시글 삭제 권한이 없습니다");
         }
 
-        // 일반 사용자인 경우 작성자 권한 체크
-        Optional<User> authorOpt = userRepository.findById(board.getAuthorNo());
+        commentRepository.deleteAllByBoardNo(boardNo);
+        boardRepository.deleteByBoardNo(boardNo);
+        boardCountService.decrementAfterCommit();
+        boardVersionCache.evictAfterCommit(boardNo);
+        boardLikeIndex.evictAfterCommit(boardNo);
+        boardCollectionVersion.bumpAfterCommit();
+        boardEventService.publishAfterCommit(boardNo, BoardActivityEventDto.Type.BOARD_DELETED);
+    }
 
-        if (authorOpt.isEmpty()) {
-            // 작성자가 탈퇴한 경우, 일반 사용자는 삭제 불가
-            throw new IllegalStateException("탈퇴한 회원의 게시글은 관리자만 삭제할 수 있습니다");
+    /**
+     * 비정규화된 댓글 수(comment_count) 일괄 보정
+     * 게시글 번호 구간(1000건) 단위로 실제 댓글 개수를 다시 계산하며,
+     * 각 구간은 BoardRepository에서 개별 트랜잭션으로 실행됩니다.
+     *
+     * @return 갱신된 게시글 수
+     */
+    public int repairCommentCounts() {
+        Long maxBoardNo = boardRepository.findMaxBoardNo();
+        if (maxBoardNo == null) {
+            return 0;
         }
 
-        User author = authorOpt.get();
-        boolean isAuthor = author.getUserId().equals(currentUserId);
-
-        if (!isAuthor) {
-            throw new IllegalStateException("게시글 삭제 권한이 없습니다");
+        int updated = 0;
+        for (long fromNo = 1; fromNo <= maxBoardNo; fromNo += COUNT_REPAIR_BATCH_SIZE) {
+            updated += boardRepository.recalculateCommentCounts(fromNo, fromNo + COUNT_REPAIR_BATCH_SIZE - 1);
         }
-
-        boardRepository.delete(board);
+        return updated;
     }
 }
\ No newline at end of file
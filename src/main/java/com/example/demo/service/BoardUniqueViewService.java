@@ -0,0 +1,107 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.entity.BoardViewerSketch;
+import com.example.demo.repository.BoardViewerSketchRepository;
+import com.example.demo.util.HyperLogLog;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 고유 방문자 수 집계 서비스 (HyperLogLog)
+ *
+ * 역할:
+ * 1. 새로고침 반복과 관계없이 방문자별로 한 번만 집계되는 고유 조회수 제공
+ * 2. 게시글당 고정 크기 스케치만 메모리에 유지 (방문자 목록을 저장하지 않음)
+ * 3. 변경된 스케치를 주기적으로 TB_BOARD_VIEWER_SKETCH에 저장하고 메모리에서 내림
+ *
+ * 스케치 적재/갱신/저장/제거는 모두 ConcurrentHashMap의 키 단위 원자 연산 안에서 수행됩니다.
+ * 적재를 키 단위 연산 밖에서 하면 그 사이 flush()가 스케치를 내렸을 때 빈 스케치로 저장본을 덮어쓰게 됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardUniqueViewService {
+
+    private final BoardViewerSketchRepository boardViewerSketchRepository;
+
+    // boardNo -> 메모리에 올라온 스케치
+    private final ConcurrentHashMap<Long, HyperLogLog> sketches = new ConcurrentHashMap<>();
+
+    // 마지막 저장 이후 변경된 게시글 번호
+    private final Set<Long> dirtyBoards = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 방문 기록 후 고유 방문자 수 추정
+     *
+     * @param boardNo 게시글 번호
+     * @param viewerKey 방문자 키 (null이면 기록 없이 조회만)
+     * @return 추정 고유 방문자 수
+     */
+    public long record(Long boardNo, String viewerKey) {
+        long[] estimate = new long[1];
+        sketches.compute(boardNo, (key, sketch) -> {
+            // 메모리에 없으면 같은 키 잠금 안에서 DB 저장본을 읽어 이어서 집계
+            HyperLogLog current = sketch != null ? sketch : HyperLogLog.fromBytes(loadSketch(key));
+            if (viewerKey != null && current.offer(viewerKey)) {
+                dirtyBoards.add(key);
+            }
+            estimate[0] = current.estimate();
+            return current;
+        });
+        return estimate[0];
+    }
+
+    /**
+     * 변경된 스케치를 DB에 저장하고, 저장 후 변경이 없는 스케치는 메모리에서 제거
+     * 저장에 실패하면 변경 표시를 되돌려 스케치를 메모리에 유지하고 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.unique-view.flush-ms:60000}")
+    public void flush() {
+        List<BoardViewerSketch> toSave = new ArrayList<>();
+        for (Long boardNo : dirtyBoards) {
+            sketches.computeIfPresent(boardNo, (key, sketch) -> {
+                dirtyBoards.remove(key);
+                toSave.add(new BoardViewerSketch(key, sketch.toBytes(), sketch.estimate()));
+                return sketch;
+            });
+        }
+
+        if (!toSave.isEmpty()) {
+            try {
+                boardViewerSketchRepository.saveAll(toSave);
+            } catch (RuntimeException e) {
+                for (BoardViewerSketch sketch : toSave) {
+                    dirtyBoards.add(sketch.getBoardNo());
+                }
+                throw e;
+            }
+        }
+
+        // 저장 이후 다시 변경되지 않은 스케치는 메모리에서 내려 메모리 사용량을 제한
+        for (Long boardNo : sketches.keySet()) {
+            sketches.computeIfPresent(boardNo, (key, sketch) -> dirtyBoards.contains(key) ? sketch : null);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 변경분 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private byte[] loadSketch(Long boardNo) {
+        return boardViewerSketchRepository.findById(boardNo)
+                .map(BoardViewerSketch::getSketch)
+                .orElse(null);
+    }
+}
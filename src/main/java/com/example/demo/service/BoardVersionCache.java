@@ -0,0 +1,126 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 버전(최종 수정일시) 메모리 캐시
+ *
+ * 역할:
+ * 1. 조건부 GET(If-None-Match / If-Modified-Since) 비교에 필요한 modifyDt만 보관
+ * 2. 304 응답 시 본문/작성자 조회 없이 메모리에서 바로 판단
+ * 3. 최근 사용 순(LRU)으로 최대 MAX_ENTRIES개까지만 유지
+ * 4. ttl-ms가 지난 항목은 다시 DB에서 읽어 다른 서버의 수정을 반영
+ *
+ * 같은 서버의 수정/삭제는 즉시 제거되지만, 다른 서버에서 수정된 게시글은 최대 ttl-ms 동안 304로 응답될 수 있습니다.
+ * DB 조회 전에 readStamp()를 받아 두고 put()에 넘겨야 합니다.
+ * 조회 도중 수정/삭제로 제거(evict)된 게시글은 세대 번호로 걸러내어, 수정 전 값이 다시 캐시되지 않습니다.
+ */
+@Component
+public class BoardVersionCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final long ttlMs;
+
+    private final Map<Long, Entry> versions = new LinkedHashMap<>(256, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // 게시글별 마지막 제거 세대 (LRU로 MAX_ENTRIES개까지 유지, 밀려난 세대는 evictedFloor로 보수적으로 대체)
+    private final Map<Long, Long> evictedGenerations = new LinkedHashMap<>(256, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            if (size() > MAX_ENTRIES) {
+                evictedFloor = Math.max(evictedFloor, eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private long generation;
+    private long evictedFloor;
+
+    public BoardVersionCache(@Value("${board.version-cache.ttl-ms:10000}") long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * 캐시된 버전 조회
+     * @param boardNo 게시글 번호
+     * @return 최종 수정일시 (캐시에 없거나 만료되었으면 null)
+     */
+    public synchronized LocalDateTime get(Long boardNo) {
+        Entry entry = versions.get(boardNo);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.cachedAt > ttlMs) {
+            versions.remove(boardNo);
+            return null;
+        }
+        return entry.modifyDt;
+    }
+
+    /**
+     * DB 조회 시작 시점의 세대 번호
+     * @return put()에 넘길 세대 번호
+     */
+    public synchronized long readStamp() {
+        return generation;
+    }
+
+    /**
+     * 버전 저장 (readStamp 이후 해당 게시글이 제거되었으면 저장하지 않음)
+     * @param boardNo 게시글 번호
+     * @param modifyDt 최종 수정일시
+     * @param stamp DB 조회 전에 받은 readStamp()
+     */
+    public synchronized void put(Long boardNo, LocalDateTime modifyDt, long stamp) {
+        if (modifyDt == null || evictedFloor > stamp
+                || evictedGenerations.getOrDefault(boardNo, 0L) > stamp) {
+            return;
+        }
+        versions.put(boardNo, new Entry(modifyDt, System.currentTimeMillis()));
+    }
+
+    /**
+     * 게시글 수정/삭제 시 버전 제거
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전 값이 다시 캐시되는 것을 막습니다.
+     * @param boardNo 게시글 번호
+     */
+    public void evictAfterCommit(Long boardNo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(boardNo);
+                }
+            });
+        } else {
+            evict(boardNo);
+        }
+    }
+
+    private synchronized void evict(Long boardNo) {
+        versions.remove(boardNo);
+        evictedGenerations.put(boardNo, ++generation);
+    }
+
+    private record Entry(LocalDateTime modifyDt, long cachedAt) {
+    }
+}
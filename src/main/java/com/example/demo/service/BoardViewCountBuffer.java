@@ -0,0 +1,90 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼
+ *
+ * 역할:
+ * 1. 상세 조회 시 UPDATE 대신 메모리 카운터만 증가 (행 잠금 없음)
+ * 2. 주기적으로 모아둔 증가분을 배치 UPDATE(view_cnt = view_cnt + ?)로 한 트랜잭션에서 반영
+ * 3. 애플리케이션 정상 종료 시 남은 증가분을 모두 반영
+ *
+ * ConcurrentHashMap.merge()는 키(boardNo)별로 원자적으로 동작하므로
+ * 서로 다른 게시글의 조회는 경합하지 않고, flush 중 들어온 조회도 유실되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardViewCountBuffer {
+
+    private static final String FLUSH_SQL =
+            "UPDATE TB_BOARD SET view_cnt = view_cnt + ? WHERE board_no = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // boardNo -> 아직 DB에 반영되지 않은 조회수 증가분
+    private final ConcurrentHashMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리)
+     *
+     * @param boardNo 게시글 번호
+     * @return 아직 DB에 반영되지 않은 증가분 (이번 조회 포함)
+     */
+    public long increment(Long boardNo) {
+        return pendingCounts.merge(boardNo, 1L, Long::sum);
+    }
+
+    /**
+     * 모아둔 증가분을 배치 UPDATE로 DB에 반영
+     * 배치 전체가 한 트랜잭션이므로, 실패하면 모두 롤백되고 증가분을 다시 버퍼에 되돌려 다음 주기에 재시도합니다.
+     * (일부만 반영된 상태로 되돌려 중복 집계되는 일이 없음)
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-ms:5000}")
+    public void flush() {
+        if (pendingCounts.isEmpty()) {
+            return;
+        }
+
+        // 키 단위로 원자적으로 꺼내므로 flush 도중의 increment()는 다음 주기로 넘어감
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long boardNo : pendingCounts.keySet()) {
+            Long delta = pendingCounts.remove(boardNo);
+            if (delta != null && delta > 0) {
+                batchArgs.add(new Object[] { delta, boardNo });
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+        } catch (RuntimeException e) {
+            for (Object[] args : batchArgs) {
+                pendingCounts.merge((Long) args[1], (Long) args[0], Long::sum);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
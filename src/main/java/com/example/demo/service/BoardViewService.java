@@ -0,0 +1,73 @@
+package com.example.demo.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.BoardDetailResponseDto;
+import com.example.demo.dto.BoardLikeStatusDto;
+import com.example.demo.dto.BoardViewResponseDto;
+import com.example.demo.dto.CommentResponseDto;
+import com.example.demo.dto.CursorPageResponseDto;
+
+/**
+ * 게시글 통합 조회 서비스
+ *
+ * 역할:
+ * 1. 게시글 상세, 댓글 목록, 좋아요 상태를 전용 스레드 풀에서 동시에 조회
+ * 2. 사용자 확인은 호출 측에서 한 번만 수행하고 userNo만 전달받음
+ * 3. 댓글은 첫 페이지만 포함 (나머지는 nextCursor로 댓글 API에서 조회)
+ */
+@Service
+public class BoardViewService {
+
+    // 통합 조회에 포함할 댓글 첫 페이지 크기
+    private static final int COMMENT_PAGE_SIZE = 50;
+
+    private final BoardService boardService;
+    private final CommentService commentService;
+    private final BoardLikeService boardLikeService;
+    private final Executor boardViewExecutor;
+
+    public BoardViewService(BoardService boardService, CommentService commentService,
+                            BoardLikeService boardLikeService,
+                            @Qualifier("boardViewExecutor") Executor boardViewExecutor) {
+        this.boardService = boardService;
+        this.commentService = commentService;
+        this.boardLikeService = boardLikeService;
+        this.boardViewExecutor = boardViewExecutor;
+    }
+
+    /**
+     * 게시글 통합 조회
+     *
+     * @param boardNo 게시글 번호
+     * @param viewerKey 고유 방문자 키
+     * @param userNo 현재 사용자 번호 (비로그인 시 null → 좋아요 상태 생략)
+     * @return BoardViewResponseDto 상세 + 댓글 + 좋아요 상태
+     */
+    public BoardViewResponseDto getBoardView(Long boardNo, String viewerKey, Long userNo) {
+        CompletableFuture<BoardDetailResponseDto> detailFuture = CompletableFuture.supplyAsync(
+                () -> boardService.getBoardDetail(boardNo, viewerKey), boardViewExecutor);
+
+        CompletableFuture<CursorPageResponseDto<CommentResponseDto>> commentsFuture = CompletableFuture.supplyAsync(
+                () -> commentService.getCommentPage(boardNo, null, COMMENT_PAGE_SIZE), boardViewExecutor);
+
+        CompletableFuture<BoardLikeStatusDto> likeFuture = userNo == null
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(() -> boardLikeService.getLikeStatus(boardNo, userNo), boardViewExecutor);
+
+        try {
+            return new BoardViewResponseDto(detailFuture.join(), commentsFuture.join(), likeFuture.join());
+        } catch (CompletionException e) {
+            // 원래 예외(IllegalArgumentException 등)를 그대로 던져 RestExceptionHandler에서 처리되도록 함
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
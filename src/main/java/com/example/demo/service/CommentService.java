@@ -1,88 +1,283 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.BoardActivityEventDto;
 import com.example.demo.dto.CommentCreateRequestDto;
 import com.example.demo.dto.CommentResponseDto;
+import com.example.demo.dto.CursorPageResponseDto;
 import com.example.demo.entity.Board;
 import com.example.demo.entity.Comment;
 import com.example.demo.entity.Role;
 import com.example.demo.entity.User;
+import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.exception.UnauthorizedAccessException;
 import com.example.demo.repository.BoardRepository;
 import com.example.demo.repository.CommentRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.util.CursorUtil;
 import com.example.demo.util.MaskingUtil;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    // 댓글 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 경로 커서 형식 (12자리 숫자를 '/'로 연결)
+    private static final Pattern THREAD_PATH_PATTERN = Pattern.compile("\\d+(/\\d+)*");
+
+    // 경로 보정 구간 크기
+    private static final int PATH_BACKFILL_BATCH_SIZE = 1000;
+
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
+    private final BoardCollectionVersion boardCollectionVersion;
+    private final BoardEventService boardEventService;
 
     /**
      * 댓글을 저장합니다.
      */
     @Transactional
     public Comment createComment(Board board, String content, Long authorNo) {
-        
+        return createComment(board, content, authorNo, null);
+    }
+
+    /**
+     * 댓글 또는 답글을 저장합니다.
+     * @param parentNo 부모 댓글 번호 (최상위 댓글이면 null)
+     */
+    @Transactional
+    public Comment createComment(Board board, String content, Long authorNo, Long parentNo) {
+        return saveComment(board, content, authorNo, parentNo);
+    }
+
+    /**
+     * 댓글 저장 공통 처리 (스레드 경로 지정, 부모 답글 수 및 게시글 댓글 수 증가)
+     */
+    private Comment saveComment(Board board, String content, Long authorNo, Long parentNo) {
+        Comment parent = null;
+        if (parentNo != null) {
+            parent = commentRepository.findById(parentNo)
+                    .orElseThrow(() -> new IllegalArgumentException("부모 댓글을 찾을 수 없습니다: " + parentNo));
+            if (!parent.getBoard().getBoardNo().equals(board.getBoardNo())) {
+                throw new IllegalArgumentException("부모 댓글이 해당 게시글에 속하지 않습니다");
+            }
+            if (parent.getDepth() >= Comment.MAX_DEPTH) {
+                throw new IllegalArgumentException("답글은 " + Comment.MAX_DEPTH + "단계까지만 작성할 수 있습니다");
+            }
+            if (parent.getThreadPath() == null) {
+                // 경로 보정 전 댓글에 답글이 달리는 경우 부모 경로를 먼저 채움
+                parent.assignThreadPath(null);
+            }
+        }
+
         Comment comment = Comment.builder()
                 .board(board) // 게시글 번호
                 .content(content) // 내용
                 .authorNo(authorNo) // 작성자 번호
+                .parentNo(parentNo) // 부모 댓글 번호
+                .depth(parent == null ? 0 : parent.getDepth() + 1)
                 .build();
 
-        return commentRepository.save(comment);
+        // IDENTITY 전략이므로 저장 즉시 댓글 번호가 발급됨 → 경로는 커밋 시 변경 감지로 반영
+        Comment savedComment = commentRepository.save(comment);
+        savedComment.assignThreadPath(parent == null ? null : parent.getThreadPath());
+
+        if (parent != null) {
+            commentRepository.addReplyCount(parentNo, 1);
+        }
+
+        // 게시글의 댓글 수를 DB에서 +1 (목록 화면에서 COUNT 쿼리 불필요)
+        boardRepository.addCommentCount(board.getBoardNo(), 1);
+        boardCollectionVersion.bumpAfterCommit();
+        boardEventService.publishAfterCommit(board.getBoardNo(), BoardActivityEventDto.Type.COMMENT_CREATED, null, 1);
+
+        return savedComment;
+    }
+
+    /**
+     * 댓글 삭제 공통 처리 (답글이 있으면 하위 트리 전체를 함께 삭제)
+     */
+    private void removeComment(Comment comment) {
+        Long boardNo = comment.getBoard().getBoardNo();
+
+        int removed = 1;
+        if (comment.getThreadPath() != null) {
+            removed += commentRepository.deleteSubtree(boardNo,
+                    Comment.subtreeLowerBound(comment.getThreadPath()),
+                    Comment.subtreeUpperBound(comment.getThreadPath()));
+        }
+        commentRepository.delete(comment);
+
+        if (comment.getParentNo() != null) {
+            commentRepository.addReplyCount(comment.getParentNo(), -1);
+        }
+        boardRepository.addCommentCount(boardNo, -removed);
+        boardCollectionVersion.bumpAfterCommit();
+        boardEventService.publishAfterCommit(boardNo, BoardActivityEventDto.Type.COMMENT_DELETED, null, -removed);
     }
     
     /**
-     * 특정 게시글의 댓글 목록을 조회합니다.
+     * 특정 게시글의 댓글 목록을 스레드 순서(답글 포함)로 조회합니다.
      */
     @Transactional(readOnly = true)
-    public List<CommentResponseDto> getCommentList(Long boardNo) {
-        
-    	List<Comment> commentList = commentRepository.findAllByBoardBoardNoOrderByCreateDtAsc(boardNo);
-        
-        // 🚨🚨🚨 DTO 변환 및 작성자 정보 조회 로직 🚨🚨🚨
+    public CursorPageResponseDto<CommentResponseDto> getCommentPage(Long boardNo, String after, int size) {
+        return getCommentPage(boardNo, after, size, false);
+    }
+
+    /**
+     * 특정 게시글의 댓글 목록을 커서 방식으로 조회합니다.
+     * thread_path 순서(부모 바로 다음에 답글)이며 한 번에 최대 100건까지만 읽습니다.
+     *
+     * @param boardNo 게시글 번호
+     * @param after 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 페이지 크기
+     * @param collapsed true면 최상위 댓글만 조회 (답글은 replyCount로만 표시)
+     * @return CursorPageResponseDto 댓글 목록 + 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentResponseDto> getCommentPage(Long boardNo, String after, int size,
+                                                                    boolean collapsed) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String afterPath = decodePathCursor(after, "");
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> rows = collapsed
+                ? commentRepository.findRootPage(boardNo, afterPath, limit)
+                : commentRepository.findThreadPage(boardNo, afterPath, limit);
+
+        return toResponsePage(rows, pageSize);
+    }
+
+    /**
+     * 특정 댓글의 하위 트리(모든 자손 답글)를 출력 순서대로 조회합니다. (접힌 답글 펼치기)
+     *
+     * @param boardNo 게시글 번호
+     * @param commentNo 부모 댓글 번호
+     * @param after 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 페이지 크기
+     * @return CursorPageResponseDto 답글 목록 + 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<CommentResponseDto> getReplyPage(Long boardNo, Long commentNo, String after, int size) {
+        Comment parent = commentRepository.findById(commentNo)
+                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다: " + commentNo));
+        if (!parent.getBoard().getBoardNo().equals(boardNo)) {
+            throw new IllegalArgumentException("댓글이 해당 게시글에 속하지 않습니다");
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        if (parent.getThreadPath() == null) {
+            return new CursorPageResponseDto<>(List.of(), pageSize, false, null);
+        }
+
+        String lowerPath = Comment.subtreeLowerBound(parent.getThreadPath());
+        String afterPath = decodePathCursor(after, lowerPath);
+        if (afterPath.compareTo(lowerPath) < 0) {
+            afterPath = lowerPath;
+        }
+
+        List<Comment> rows = commentRepository.findSubtreePage(boardNo, afterPath,
+                Comment.subtreeUpperBound(parent.getThreadPath()), PageRequest.of(0, pageSize + 1));
+
+        return toResponsePage(rows, pageSize);
+    }
+
+    /**
+     * 경로 커서 디코딩
+     * @param after 커서 문자열
+     * @param defaultPath 커서가 없을 때 사용할 경로
+     * @return 이전 페이지 마지막 댓글 경로
+     */
+    private String decodePathCursor(String after, String defaultPath) {
+        if (after == null || after.isBlank()) {
+            return defaultPath;
+        }
+        String path = CursorUtil.decode(after, 1)[0];
+        if (!THREAD_PATH_PATTERN.matcher(path).matches()) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return path;
+    }
+
+    /**
+     * 조회 결과(pageSize + 1건)를 응답 페이지로 변환
+     */
+    private CursorPageResponseDto<CommentResponseDto> toResponsePage(List<Comment> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Comment> commentList = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? CursorUtil.encode(commentList.get(commentList.size() - 1).getThreadPath()) : null;
+
+        // 1. 작성자 정보는 서로 다른 작성자 번호만 모아 IN 쿼리 한 번으로 조회하고, 작성자별로 한 번만 마스킹
+        Map<Long, MaskedAuthor> authors = findMaskedAuthors(commentList);
+
+        // 2. DTO 변환 (추가 조회 없음)
         List<CommentResponseDto> dtoList = commentList.stream()
-        	    // 🚨🚨🚨 map의 람다 함수 전체를 중괄호 {}로 감싸야 합니다. 🚨🚨🚨
-        	    .map(comment -> { // <--- 람다 시작 중괄호 추가
-        	        
-        	        // 1. 작성자 번호로 User 엔티티 조회 (authorNo)
-        	        User authorUser = userRepository.findById(comment.getAuthorNo()).orElse(null);
-        	        
-        	        String originalName = authorUser != null ? authorUser.getName() : "탈퇴 회원";
-        	        String originalUserId = authorUser != null ? authorUser.getUserId() : "deleted";
-        	        Long authorPk = comment.getAuthorNo();
-        	        
-        	        // 💡 MaskingUtil을 사용하여 마스킹 처리
-        	        String maskedName = MaskingUtil.maskName(originalName); 
-        	        String maskedUserId = MaskingUtil.maskUserId(originalUserId);
-        	        
-        	        
-        	        // 2. DTO 빌더를 사용하여 Comment 및 User 정보 조합
-        	        // 🚨🚨🚨 return 키워드를 반드시 포함해야 합니다. 🚨🚨🚨
+        	    .map(comment -> {
+        	        MaskedAuthor author = authors.getOrDefault(comment.getAuthorNo(), MaskedAuthor.DELETED);
         	        return CommentResponseDto.builder()
         	                .commentNo(comment.getCommentNo())
         	                .content(comment.getContent())
         	                .createDt(comment.getCreateDt())
         	                .modifyDt(comment.getModifyDt())
-        	                .authorName(maskedName)
-        	                .authorUserId(maskedUserId)
-        	                .authorNo(authorPk)
+        	                .authorName(author.name())
+        	                .authorUserId(author.userId())
+        	                .authorNo(comment.getAuthorNo())
+        	                .parentNo(comment.getParentNo())
+        	                .depth(comment.getDepth())
+        	                .replyCount(comment.getReplyCount())
         	                .build();
-        	    }) // <--- 람다 끝 중괄호 (중괄호가 이 위치에 있어야 함)
+        	    })
         	    .collect(Collectors.toList());
 
 
-        return dtoList;
+        return new CursorPageResponseDto<>(dtoList, pageSize, hasNext, nextCursor);
+    }
+
+    /**
+     * 댓글 목록의 작성자 정보를 일괄 조회하여 마스킹
+     * @param comments 댓글 목록
+     * @return 작성자 번호 -> 마스킹된 작성자 정보 (탈퇴 회원은 포함되지 않음)
+     */
+    private Map<Long, MaskedAuthor> findMaskedAuthors(List<Comment> comments) {
+        Set<Long> authorNos = comments.stream()
+                .map(Comment::getAuthorNo)
+                .collect(Collectors.toSet());
+        if (authorNos.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, MaskedAuthor> authors = new HashMap<>();
+        for (User user : userRepository.findAllById(authorNos)) {
+            authors.put(user.getUserNo(), new MaskedAuthor(
+                    MaskingUtil.maskName(user.getName()),
+                    MaskingUtil.maskUserId(user.getUserId())));
+        }
+        return authors;
+    }
+
+    /**
+     * 마스킹된 작성자 정보
+     */
+    private record MaskedAuthor(String name, String userId) {
+        private static final MaskedAuthor DELETED =
+                new MaskedAuthor(MaskingUtil.maskName("탈퇴 회원"), MaskingUtil.maskUserId("deleted"));
     }
     
     @Transactional
@@ -100,8 +295,8 @@ public class CommentService {
             throw new UnauthorizedAccessException("댓글 삭제 권한이 없습니다.");
         }
         
-        // 3. 댓글 삭제
-        commentRepository.delete(comment);
+        // 3. 댓글 삭제 (답글이 있으면 함께 삭제)
+        removeComment(comment);
     }
     /**
      * 댓글 수정 로직 및 권한 확인
@@ -124,6 +319,7 @@ public class CommentService {
         
         // 3. 내용 업데이트 (Dirty Checking을 이용)
         comment.updateContent(newContent); 
+        boardEventService.publishAfterCommit(comment.getBoard().getBoardNo(), BoardActivityEventDto.Type.COMMENT_UPDATED);
         // Comment 엔티티에 updateContent(String content) 메서드가 정의되어 있어야 합니다.
         
         // (Transactional 어노테이션 덕분에 save() 호출 없이 트랜잭션 종료 시 자동 반영됨)
@@ -154,73 +350,75 @@ public class CommentService {
         Board board = boardRepository.findById(boardNo)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + boardNo));
 
-        // 댓글 엔티티 생성
-        Comment comment = Comment.builder()
-                .content(createRequest.getContent())
-                .board(board)
-                .authorNo(authorNo)
-                .build();
-
-        return commentRepository.save(comment);
+        // 댓글(또는 답글) 저장
+        return saveComment(board, createRequest.getContent(), authorNo, createRequest.getParentNo());
     }
     /**
      * REST API용 댓글 수정
+     * 권한 확인(작성자만, ADMIN도 수정 불가)과 수정을 조건부 UPDATE 한 번으로 처리하고,
+     * 변경된 행이 없을 때만 존재 여부를 확인하여 404/403을 구분합니다.
+     *
+     * @param boardNo 게시글 번호
+     * @param commentNo 댓글 번호
+     * @param content 새 내용
+     * @param currentUserNo 현재 로그인한 사용자 번호
      */
-    public void updateCommentForApi(Long boardNo, Long commentNo, String content, String userId, Role userRole) {
-        Comment comment = commentRepository.findById(commentNo)
-                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-
-        // 게시글 존재 확인
-        if (!comment.getBoard().getBoardNo().equals(boardNo)) {
-            throw new IllegalArgumentException("잘못된 게시글 번호입니다.");
-        }
+    @Transactional
+    public void updateCommentForApi(Long boardNo, Long commentNo, String content, Long currentUserNo) {
+        int updated = commentRepository.updateContentIfAuthor(boardNo, commentNo, currentUserNo, content,
+                LocalDateTime.now());
 
-        // 권한 확인: 작성자만 수정 가능 (ADMIN도 수정 불가)
-        User currentUser = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Long currentUserNo = currentUser.getUserNo();
-        if (!comment.getAuthorNo().equals(currentUserNo)) {
+        if (updated == 0) {
+            if (!commentRepository.existsByCommentNoAndBoardBoardNo(commentNo, boardNo)) {
+                throw new ResourceNotFoundException("댓글을 찾을 수 없습니다: " + commentNo);
+            }
             throw new UnauthorizedAccessException("댓글 수정 권한이 없습니다.");
         }
 
-        comment.setContent(content);
-        commentRepository.save(comment);
+        boardEventService.publishAfterCommit(boardNo, BoardActivityEventDto.Type.COMMENT_UPDATED);
     }
 
     /**
      * REST API용 댓글 삭제 (권한 체크 포함)
+     * 댓글 한 건 조회(게시글/작성자 추가 조회 없음)로 소속과 권한을 확인한 뒤 삭제합니다.
+     * 스레드 경로가 필요하므로 조건부 DELETE 대신 댓글 행을 읽습니다.
      *
      * @param boardNo 게시글 번호
      * @param commentNo 댓글 번호
-     * @param currentUserId 현재 로그인한 사용자 ID
+     * @param currentUserNo 현재 로그인한 사용자 번호
      * @param currentUserRole 현재 로그인한 사용자 권한
      */
     @Transactional
-    public void deleteCommentForApi(Long boardNo, Long commentNo, String currentUserId, Role currentUserRole) {
-        // 게시글 존재 확인
-        boardRepository.findById(boardNo)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + boardNo));
-
-        // 댓글 존재 확인
+    public void deleteCommentForApi(Long boardNo, Long commentNo, Long currentUserNo, Role currentUserRole) {
+        // 댓글 존재 및 게시글 소속 확인 (board는 지연 로딩 프록시라 게시글 조회 없음)
         Comment comment = commentRepository.findById(commentNo)
-                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다: " + commentNo));
-
-        // 댓글이 해당 게시글에 속하는지 확인
-        if (!comment.getBoard().getBoardNo().equals(boardNo)) {
-            throw new IllegalArgumentException("댓글이 해당 게시글에 속하지 않습니다");
-        }
+                .filter(found -> found.getBoard().getBoardNo().equals(boardNo))
+                .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다: " + commentNo));
 
         // 권한 체크: 작성자 또는 ADMIN만 삭제 가능
-        User author = userRepository.findById(comment.getAuthorNo())
-                .orElseThrow(() -> new IllegalArgumentException("작성자를 찾을 수 없습니다"));
+        if (currentUserRole != Role.ADMIN && !comment.getAuthorNo().equals(currentUserNo)) {
+            throw new UnauthorizedAccessException("댓글 삭제 권한이 없습니다");
+        }
 
-        boolean isAuthor = author.getUserId().equals(currentUserId);
-        boolean isAdmin = currentUserRole == Role.ADMIN;
+        removeComment(comment);
+    }
 
-        if (!isAuthor && !isAdmin) {
-            throw new IllegalStateException("댓글 삭제 권한이 없습니다");
+    /**
+     * 스레드 도입 이전 댓글의 경로 보정
+     * 경로가 없는 댓글을 최상위 댓글 경로로 채웁니다. (댓글 번호 구간마다 개별 커밋)
+     *
+     * @return 갱신된 댓글 수
+     */
+    public int backfillThreadPaths() {
+        Long maxCommentNo = commentRepository.findMaxCommentNo();
+        if (maxCommentNo == null) {
+            return 0;
         }
 
-        commentRepository.delete(comment);
+        int updated = 0;
+        for (long fromNo = 1; fromNo <= maxCommentNo; fromNo += PATH_BACKFILL_BATCH_SIZE) {
+            updated += commentRepository.backfillThreadPaths(fromNo, fromNo + PATH_BACKFILL_BATCH_SIZE - 1);
+        }
+        return updated;
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.example.demo.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.repository.CommentRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션 시작 시 댓글 스레드 경로 보정
+ *
+ * 스레드 조회는 thread_path 순서로 커서를 이동하므로 경로가 없는(답글 기능 도입 이전) 댓글은 목록에 나타나지 않습니다.
+ * 경로가 없는 댓글이 남아 있으면 시작 시 한 번 최상위 댓글 경로로 채워, 관리자 API 실행 없이도 기존 댓글이 보이도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentThreadPathInitializer implements ApplicationRunner {
+
+    private final CommentRepository commentRepository;
+    private final CommentService commentService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!commentRepository.existsByThreadPathIsNull()) {
+            return;
+        }
+        int updated = commentService.backfillThreadPaths();
+        log.info("댓글 스레드 경로 보정 완료: {}건", updated);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.entity.Board;
+import com.example.demo.util.TextCompressor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 본문 압축 마이그레이션 서비스
+ *
+ * 역할:
+ * 1. 압축 도입 이전에 저장된 게시글/댓글 본문 중 임계값 이상인 행을 압축 형식으로 다시 저장
+ * 2. PK 구간 단위로 나누어 읽고 배치 UPDATE로 반영 (구간마다 개별 커밋)
+ * 3. 요약(excerpt)이 없는 기존 게시글의 요약 생성 (압축된 본문은 복원한 뒤 요약)
+ *
+ * 컨버터를 거치지 않도록 JDBC로 직접 처리하며,
+ * 읽은 뒤 사용자가 본문을 수정한 행은 덮어쓰지 않도록 원래 본문과 같은 경우에만 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentCompressionService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_BOARD_SQL =
+            "SELECT board_no AS no, content FROM TB_BOARD"
+            + " WHERE board_no BETWEEN ? AND ? AND LENGTH(content) >= ? AND content NOT LIKE ?";
+
+    private static final String UPDATE_BOARD_SQL =
+            "UPDATE TB_BOARD SET content = ?, excerpt = COALESCE(excerpt, ?)"
+            + " WHERE board_no = ? AND content = ?";
+
+    private static final String SELECT_COMMENT_SQL =
+            "SELECT comment_no AS no, content FROM TB_COMMENT"
+            + " WHERE comment_no BETWEEN ? AND ? AND LENGTH(content) >= ? AND content NOT LIKE ?";
+
+    private static final String UPDATE_COMMENT_SQL =
+            "UPDATE TB_COMMENT SET content = ? WHERE comment_no = ? AND content = ?";
+
+    private static final String BACKFILL_PLAIN_EXCERPT_SQL =
+            "UPDATE TB_BOARD SET excerpt ="
+            + " CASE WHEN CHAR_LENGTH(content) > " + Board.EXCERPT_LENGTH
+            + " THEN CONCAT(SUBSTRING(content, 1, " + Board.EXCERPT_LENGTH + "), '...')"
+            + " ELSE content END"
+            + " WHERE board_no BETWEEN ? AND ? AND excerpt IS NULL AND content NOT LIKE ?";
+
+    private static final String SELECT_COMPRESSED_WITHOUT_EXCERPT_SQL =
+            "SELECT board_no AS no, content FROM TB_BOARD"
+            + " WHERE board_no BETWEEN ? AND ? AND excerpt IS NULL AND content LIKE ?";
+
+    private static final String UPDATE_EXCERPT_SQL =
+            "UPDATE TB_BOARD SET excerpt = ? WHERE board_no = ? AND excerpt IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TextCompressor textCompressor;
+
+    /**
+     * 게시글 본문 압축 마이그레이션
+     * @return 압축된 행 수
+     */
+    public int compressBoards() {
+        Long maxNo = jdbcTemplate.queryForObject("SELECT MAX(board_no) FROM TB_BOARD", Long.class);
+        int updated = 0;
+        for (long fromNo = 1; maxNo != null && fromNo <= maxNo; fromNo += BATCH_SIZE) {
+            List<Object[]> batchArgs = new ArrayList<>();
+            for (Map<String, Object> row : selectCandidates(SELECT_BOARD_SQL, fromNo)) {
+                String content = (String) row.get("content");
+                String compressed = textCompressor.compress(content);
+                if (TextCompressor.isCompressed(compressed)) {
+                    batchArgs.add(new Object[] { compressed, Board.toExcerpt(content), row.get("no"), content });
+                }
+            }
+            updated += executeBatch(UPDATE_BOARD_SQL, batchArgs);
+        }
+        log.info("게시글 본문 압축 완료: {}건", updated);
+        return updated;
+    }
+
+    /**
+     * 댓글 본문 압축 마이그레이션
+     * @return 압축된 행 수
+     */
+    public int compressComments() {
+        Long maxNo = jdbcTemplate.queryForObject("SELECT MAX(comment_no) FROM TB_COMMENT", Long.class);
+        int updated = 0;
+        for (long fromNo = 1; maxNo != null && fromNo <= maxNo; fromNo += BATCH_SIZE) {
+            List<Object[]> batchArgs = new ArrayList<>();
+            for (Map<String, Object> row : selectCandidates(SELECT_COMMENT_SQL, fromNo)) {
+                String content = (String) row.get("content");
+                String compressed = textCompressor.compress(content);
+                if (TextCompressor.isCompressed(compressed)) {
+                    batchArgs.add(new Object[] { compressed, row.get("no"), content });
+                }
+            }
+            updated += executeBatch(UPDATE_COMMENT_SQL, batchArgs);
+        }
+        log.info("댓글 본문 압축 완료: {}건", updated);
+        return updated;
+    }
+
+    /**
+     * 요약(excerpt)이 없는 기존 게시글의 요약 생성
+     * 일반 본문은 SQL로 앞부분을 잘라 채우고 (Board.toExcerpt()와 같은 규칙),
+     * 압축된 본문은 읽어서 복원한 뒤 요약을 만들어 배치 UPDATE로 채웁니다.
+     * @return 갱신된 행 수
+     */
+    public int backfillExcerpts() {
+        Long maxNo = jdbcTemplate.queryForObject("SELECT MAX(board_no) FROM TB_BOARD", Long.class);
+        String compressedPattern = TextCompressor.MARKER + "%";
+        int updated = 0;
+        for (long fromNo = 1; maxNo != null && fromNo <= maxNo; fromNo += BATCH_SIZE) {
+            long toNo = fromNo + BATCH_SIZE - 1;
+            updated += jdbcTemplate.update(BACKFILL_PLAIN_EXCERPT_SQL, fromNo, toNo, compressedPattern);
+
+            List<Object[]> batchArgs = new ArrayList<>();
+            for (Map<String, Object> row : jdbcTemplate.queryForList(
+                    SELECT_COMPRESSED_WITHOUT_EXCERPT_SQL, fromNo, toNo, compressedPattern)) {
+                String content = textCompressor.decompress((String) row.get("content"));
+                batchArgs.add(new Object[] { Board.toExcerpt(content), row.get("no") });
+            }
+            updated += executeBatch(UPDATE_EXCERPT_SQL, batchArgs);
+        }
+        log.info("게시글 요약 생성 완료: {}건", updated);
+        return updated;
+    }
+
+    private List<Map<String, Object>> selectCandidates(String sql, long fromNo) {
+        return jdbcTemplate.queryForList(sql, fromNo, fromNo + BATCH_SIZE - 1,
+                textCompressor.getThresholdBytes(), TextCompressor.MARKER + "%");
+    }
+
+    private int executeBatch(String sql, List<Object[]> batchArgs) {
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(sql, batchArgs)) {
+            if (count > 0) {
+                updated += count;
+            }
+        }
+        return updated;
+    }
+}
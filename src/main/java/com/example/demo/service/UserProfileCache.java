@@ -0,0 +1,136 @@
+package com.example.demo.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.entity.Role;
+import com.example.demo.entity.User;
+
+/**
+ * 회원 프로필 메모리 캐시 (세션 기반 폼 로그인 체인용)
+ *
+ * 역할:
+ * 1. 폼 로그인 인증(loadUserByUsername)과 화면 렌더링(userNo/이름 조회)에 필요한 회원 정보만 보관
+ * 2. 로그인 ID(userId)를 키로, 최근 사용 순(LRU)으로 max-entries개까지 유지
+ * 3. ttl-ms가 지난 항목은 다시 DB에서 읽어 다른 서버의 변경을 반영
+ *
+ * 권한/비밀번호가 바뀌면 커밋 이후 evictAfterCommit()으로 제거해야 합니다.
+ * DB 조회 전에 readStamp()를 받아 두고 put()에 넘기면, 조회 도중 제거된 회원의 변경 전 값은 다시 캐시되지 않습니다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final long ttlMs;
+
+    private final Map<String, Entry> profiles;
+
+    // 회원별 마지막 제거 세대 (LRU로 max-entries개까지 유지, 밀려난 세대는 evictedFloor로 보수적으로 대체)
+    private final Map<String, Long> evictedGenerations;
+
+    private long generation;
+    private long evictedFloor;
+
+    public UserProfileCache(@Value("${board.user-cache.max-entries:10000}") int maxEntries,
+                            @Value("${board.user-cache.ttl-ms:300000}") long ttlMs) {
+        this.ttlMs = ttlMs;
+        this.profiles = new LinkedHashMap<>(256, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.evictedGenerations = new LinkedHashMap<>(256, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() > maxEntries) {
+                    evictedFloor = Math.max(evictedFloor, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 프로필 조회
+     * @param userId 로그인 ID
+     * @return 프로필 (캐시에 없거나 만료되었으면 null)
+     */
+    public synchronized UserProfile get(String userId) {
+        Entry entry = profiles.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.cachedAt > ttlMs) {
+            profiles.remove(userId);
+            return null;
+        }
+        return entry.profile;
+    }
+
+    /**
+     * DB 조회 시작 시점의 세대 번호
+     * @return put()에 넘길 세대 번호
+     */
+    public synchronized long readStamp() {
+        return generation;
+    }
+
+    /**
+     * 회원 엔티티로 프로필 저장 (readStamp 이후 해당 회원이 제거되었으면 저장하지 않음)
+     * @param user 회원 엔티티
+     * @param stamp DB 조회 전에 받은 readStamp()
+     * @return 조회한 프로필 (저장 여부와 관계없이 반환)
+     */
+    public UserProfile put(User user, long stamp) {
+        UserProfile profile = new UserProfile(
+                user.getUserNo(), user.getUserId(), user.getUserPw(), user.getName(), user.getRole());
+        synchronized (this) {
+            if (evictedFloor <= stamp && evictedGenerations.getOrDefault(profile.userId(), 0L) <= stamp) {
+                profiles.put(profile.userId(), new Entry(profile, System.currentTimeMillis()));
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * 회원 정보 변경 시 프로필 제거
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전 값이 다시 캐시되는 것을 막습니다.
+     * @param userId 로그인 ID
+     */
+    public void evictAfterCommit(String userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    private synchronized void evict(String userId) {
+        profiles.remove(userId);
+        evictedGenerations.put(userId, ++generation);
+    }
+
+    /**
+     * 캐시에 보관하는 회원 정보 (엔티티 대신 불변 값만 보관)
+     */
+    public record UserProfile(Long userNo, String userId, String userPw, String name, Role role) {
+    }
+
+    private record Entry(UserProfile profile, long cachedAt) {
+    }
+}
@@ -6,8 +6,10 @@ import com.example.demo.dto.UserSignupDto;
 import com.example.demo.entity.Role;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.UserProfileCache.UserProfile;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.security.core.Authentication;
@@ -26,6 +28,7 @@ public class UserService {
 
 	private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserProfileCache userProfileCache;
 
     /**
      * 새로운 회원을 등록하는 메서드 (수정됨)
@@ -88,27 +91,56 @@ public class UserService {
                 .orElseThrow(() -> new UsernameNotFoundException("회원을 찾을 수 없습니다."));
     
         user.updateRole(role); 
+        userProfileCache.evictAfterCommit(user.getUserId());
+    }
+
+    /**
+     * 회원의 비밀번호를 변경
+     * 캐시된 프로필에 비밀번호 해시가 있으므로, 비밀번호 변경은 반드시 이 메서드를 거쳐야 합니다.
+     * @param userNo 비밀번호를 변경할 회원 번호
+     * @param rawPassword 변경할 평문 비밀번호
+     */
+    @Transactional
+    public void updatePassword(Long userNo, String rawPassword) {
+        User user = userRepository.findById(userNo)
+                .orElseThrow(() -> new UsernameNotFoundException("회원을 찾을 수 없습니다."));
+
+        user.updatePassword(passwordEncoder.encode(rawPassword));
+        userProfileCache.evictAfterCommit(user.getUserId());
+    }
+
+    /**
+     * userId(로그인 ID)로 회원 프로필 조회 (캐시 우선, 없으면 DB 조회 후 캐시)
+     * 캐시 적중 시 트랜잭션/DB 커넥션 없이 반환하도록 트랜잭션을 걸지 않습니다.
+     * @param userId 로그인 ID
+     * @return 회원 프로필 (회원이 없으면 empty)
+     */
+    public Optional<UserProfile> findProfile(String userId) {
+        UserProfile cached = userProfileCache.get(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long stamp = userProfileCache.readStamp();
+        return userRepository.findByUserId(userId).map(user -> userProfileCache.put(user, stamp));
     }
 
     /**
      * userId(로그인 ID)로 User 엔티티의 PK(userNo)를 조회합니다.
      */
-    @Transactional(readOnly = true)
     public Long getUserNoByUserId(String userId) {
-            return userRepository.findByUserId(userId)
+            return findProfile(userId)
                             .orElseThrow(() -> new UsernameNotFoundException("작성자를 찾을 수 없습니다: " + userId))
-                            .getUserNo();
+                            .userNo();
     }
 
     /**
      * userId(로그인 ID)를 기반으로 회원의 이름을 조회합니다.
      */
-    @Transactional(readOnly = true)
     public String getUserNameByUserId(String userId) {
-            User user = userRepository.findByUserId(userId)
+            UserProfile profile = findProfile(userId)
                             .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
-            return user.getName();
+            return profile.name();
     }
 
     /**
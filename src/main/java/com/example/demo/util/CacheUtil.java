@@ -37,6 +37,22 @@ public class CacheUtil {
         return "\"" + id + "-" + timestamp + "\"";
     }
 
+    /**
+     * 컬렉션 버전과 조회 조건을 조합하여 목록용 ETag 생성
+     * 해시 대신 값을 그대로 이어 붙이므로 서로 다른 버전/조건의 ETag가 충돌하지 않음
+     * @param resource 리소스 이름 (예: "boards")
+     * @param version 컬렉션 버전
+     * @param params 조회 조건 (페이지, 크기, 커서 등)
+     * @return 생성된 ETag 문자열 (예: "boards-1700000000123.170000000-0-20")
+     */
+    public String generateListETag(String resource, String version, Object... params) {
+        StringBuilder sb = new StringBuilder("\"").append(resource).append('-').append(version);
+        for (Object param : params) {
+            sb.append('-').append(param);
+        }
+        return sb.append('"').toString();
+    }
+
     /**
      * ETag 기반 조건부 요청 확인
      * @param etag 현재 리소스의 ETag
@@ -0,0 +1,68 @@
+package com.example.demo.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 커서(keyset) 페이징용 유틸리티 클래스
+ * 정렬 키 값들을 클라이언트가 해석할 필요 없는 불투명(opaque) 문자열로 변환합니다.
+ *
+ * 형식: Base64URL("값1|값2|...")
+ */
+@Component
+public class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 인코딩
+     * @param values 커서에 담을 정렬 키 값들 (예: boardNo)
+     * @return 불투명 커서 문자열
+     */
+    public static String encode(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(DELIMITER);
+            }
+            sb.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값 배열로 디코딩
+     * @param cursor 클라이언트가 보낸 커서 문자열
+     * @param expectedParts 기대하는 값 개수
+     * @return 정렬 키 값 문자열 배열
+     * @throws IllegalArgumentException 잘못된 커서인 경우 (RestExceptionHandler에서 400 처리)
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 단일 Long 키(예: boardNo)로 구성된 커서 디코딩
+     * @param cursor 커서 문자열
+     * @return 정렬 키 값
+     */
+    public static Long decodeLong(String cursor) {
+        try {
+            return Long.valueOf(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
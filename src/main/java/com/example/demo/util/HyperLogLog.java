@@ -0,0 +1,108 @@
+package com.example.demo.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog 고유값 개수 추정 스케치
+ *
+ * 역할:
+ * 1. 방문자 수와 관계없이 고정 크기(2048바이트) 메모리로 고유 방문자 수를 추정
+ * 2. 레지스터 배열을 그대로 바이트로 저장/복원하여 DB에 보관 가능
+ *
+ * 정밀도 p=11 (레지스터 2048개) 기준 표준 오차는 약 2.3% 입니다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class HyperLogLog {
+
+    private static final int PRECISION = 11;
+    public static final int REGISTER_COUNT = 1 << PRECISION;  // 2048
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTER_COUNT];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * 저장된 바이트 배열로부터 스케치 복원
+     * @param bytes toBytes()로 저장한 값 (없거나 크기가 다르면 빈 스케치)
+     * @return HyperLogLog 스케치
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != REGISTER_COUNT) {
+            return new HyperLogLog();
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    /**
+     * 값 추가
+     * @param key 고유 식별자 (예: "u:userId")
+     * @return 레지스터가 변경되었으면 true (저장 필요)
+     */
+    public boolean offer(String key) {
+        long hash = hash64(key);
+        int index = (int) (hash >>> (64 - PRECISION));
+        long remaining = hash << PRECISION;
+        int rank = Math.min(Long.numberOfLeadingZeros(remaining), 64 - PRECISION) + 1;
+
+        if (registers[index] < rank) {
+            registers[index] = (byte) rank;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 고유값 개수 추정
+     * @return 추정 고유값 개수
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeroRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroRegisters++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+
+        // 작은 값 보정 (Linear Counting)
+        if (estimate <= 2.5 * REGISTER_COUNT && zeroRegisters > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * 저장용 바이트 배열 반환 (복사본)
+     * @return 레지스터 배열
+     */
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+
+    /**
+     * 64비트 해시 (FNV-1a + MurmurHash3 fmix64 후처리)
+     */
+    private static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.demo.util;
+
+import java.util.Arrays;
+
+/**
+ * 압축 비트맵 (Roaring 방식의 정수 집합)
+ *
+ * 역할:
+ * 1. 0 이상의 int 값을 상위 16비트로 나눈 구간(container)별로 보관
+ * 2. 구간에 값이 적으면 정렬된 char 배열(값당 2바이트), 많으면 8KB 비트맵으로 저장
+ * 3. 포함 여부/추가/삭제는 구간 이진 탐색 + 구간 내 연산으로 처리
+ *
+ * 구간당 값이 ARRAY_MAX_SIZE(4096)개를 넘으면 비트맵으로, 다시 그 이하로 줄면 배열로 바뀝니다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class RoaringBitmap {
+
+    private static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;  // 65536비트 / 64
+    private static final int INITIAL_CAPACITY = 4;
+
+    // 상위 16비트 키 (오름차순) 와 같은 위치의 구간
+    private char[] keys = new char[INITIAL_CAPACITY];
+    private Container[] containers = new Container[INITIAL_CAPACITY];
+    private int size;
+    private long cardinality;
+
+    /**
+     * 값 추가
+     * @param value 0 이상의 값
+     * @return 새로 추가되었으면 true, 이미 있었으면 false
+     */
+    public boolean add(int value) {
+        checkValue(value);
+        char high = (char) (value >>> 16);
+        int index = indexOfKey(high);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, high, new ArrayContainer());
+        }
+
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add((char) value);
+        if (containers[index].cardinality() == before) {
+            return false;
+        }
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * 값 삭제
+     * @param value 0 이상의 값
+     * @return 삭제되었으면 true, 없던 값이면 false
+     */
+    public boolean remove(int value) {
+        checkValue(value);
+        int index = indexOfKey((char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+
+        Container container = containers[index];
+        int before = container.cardinality();
+        Container updated = container.remove((char) value);
+        if (updated.cardinality() == before) {
+            return false;
+        }
+        cardinality--;
+        if (updated.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = updated;
+        }
+        return true;
+    }
+
+    /**
+     * 포함 여부 확인
+     * @param value 확인할 값
+     * @return 포함되어 있으면 true
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOfKey((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * @return 보관 중인 값의 개수
+     */
+    public long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * @return 대략적인 메모리 사용량 (바이트, 객체 헤더 포함 추정치)
+     */
+    public long sizeInBytes() {
+        long bytes = 32L + 16L + keys.length * 2L + 16L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수 값은 저장할 수 없습니다: " + value);
+        }
+    }
+
+    private int indexOfKey(char key) {
+        // 값을 오름차순으로 추가하는 경우가 많으므로 마지막 구간을 먼저 확인
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    /**
+     * 하위 16비트 값 집합 (구간)
+     * add/remove는 형태가 바뀌면 새 구간을, 아니면 자기 자신을 반환합니다.
+     */
+    private interface Container {
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        long sizeInBytes();
+    }
+
+    /** 값이 적은 구간: 정렬된 char 배열 */
+    private static final class ArrayContainer implements Container {
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this.values = new char[INITIAL_CAPACITY];
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(char value) {
+            int index = (cardinality > 0 && values[cardinality - 1] < value)
+                ? -(cardinality + 1)
+                : Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality >= ARRAY_MAX_SIZE) {
+                return toBitmap().add(value);
+            }
+
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, values.length * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index < 0) {
+                return this;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16L + 16L + values.length * 2L;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /** 값이 많은 구간: 65536비트 고정 크기 비트맵 */
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        public Container add(char value) {
+            long mask = 1L << value;
+            int word = value >>> 6;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long mask = 1L << value;
+            int word = value >>> 6;
+            if ((words[word] & mask) == 0) {
+                return this;
+            }
+            words[word] &= ~mask;
+            cardinality--;
+            return cardinality <= ARRAY_MAX_SIZE ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 16L + 16L + BITMAP_WORDS * 8L;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(INITIAL_CAPACITY, cardinality)];
+            int count = 0;
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    values[count++] = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
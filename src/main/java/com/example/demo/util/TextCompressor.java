@@ -0,0 +1,161 @@
+package com.example.demo.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대용량 본문 압축 유틸리티 클래스
+ *
+ * 역할:
+ * 1. 임계값 이상인 본문을 Deflate로 압축하고 마커 헤더를 붙여 TEXT 컬럼에 저장 가능한 문자열로 변환
+ * 2. 마커 헤더가 있는 값만 복원 (작은 본문과 기존 데이터는 그대로 통과)
+ * 3. 압축 전/후 바이트 수를 누적하여 압축률 지표 제공
+ *
+ * 저장 형식: MARKER + Base64(Deflate(UTF-8 본문))
+ * 본문이 우연히 MARKER로 시작하면 크기와 관계없이 압축하여 읽을 때 혼동이 없도록 합니다.
+ */
+@Component
+public class TextCompressor {
+
+    // 일반 텍스트에 나타나지 않는 제어 문자로 시작하는 압축 마커
+    public static final String MARKER = "\u0001DZ:";
+
+    private final boolean enabled;
+    private final int thresholdBytes;
+
+    private final AtomicLong compressedCount = new AtomicLong();
+    private final AtomicLong originalBytes = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+
+    public TextCompressor(@Value("${board.compression.enabled:false}") boolean enabled,
+                          @Value("${board.compression.threshold-bytes:4096}") int thresholdBytes) {
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    /**
+     * 저장용 값으로 변환 (필요할 때만 압축)
+     * @param text 원본 본문
+     * @return 압축된 문자열 또는 원본
+     */
+    public String compress(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        boolean forced = text.startsWith(MARKER);
+        if (!forced && !enabled) {
+            return text;
+        }
+
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (!forced && raw.length < thresholdBytes) {
+            return text;
+        }
+
+        String encoded = MARKER + Base64.getEncoder().encodeToString(deflate(raw));
+
+        // 압축 효과가 없으면 원본 유지 (마커로 시작하는 본문은 예외)
+        if (!forced && encoded.length() >= raw.length) {
+            return text;
+        }
+
+        compressedCount.incrementAndGet();
+        originalBytes.addAndGet(raw.length);
+        storedBytes.addAndGet(encoded.length());
+        return encoded;
+    }
+
+    /**
+     * 저장된 값을 원본 본문으로 복원
+     * @param stored DB에 저장된 값
+     * @return 원본 본문
+     */
+    public String decompress(String stored) {
+        if (stored == null || !stored.startsWith(MARKER)) {
+            return stored;
+        }
+        byte[] compressed = Base64.getDecoder().decode(stored.substring(MARKER.length()));
+        return new String(inflate(compressed), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 압축 여부 확인
+     * @param stored DB에 저장된 값
+     * @return 압축된 값이면 true
+     */
+    public static boolean isCompressed(String stored) {
+        return stored != null && stored.startsWith(MARKER);
+    }
+
+    public int getThresholdBytes() {
+        return thresholdBytes;
+    }
+
+    public long getCompressedCount() {
+        return compressedCount.get();
+    }
+
+    public long getOriginalBytes() {
+        return originalBytes.get();
+    }
+
+    public long getStoredBytes() {
+        return storedBytes.get();
+    }
+
+    /**
+     * 누적 압축률 (저장 바이트 / 원본 바이트, 낮을수록 효과가 큼)
+     * @return 압축률 (압축한 적이 없으면 1.0)
+     */
+    public double getCompressionRatio() {
+        long original = originalBytes.get();
+        return original == 0 ? 1.0 : (double) storedBytes.get() / original;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 본문이 손상되었습니다.");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.util;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 고유 방문자 식별 키 생성 유틸리티 클래스
+ * 로그인 사용자는 사용자 ID, 비로그인 사용자는 IP + User-Agent 조합으로 구분합니다.
+ * 키는 HyperLogLog에 해시로만 반영되며 원본 값은 저장되지 않습니다.
+ *
+ * 클라이언트가 임의로 보낼 수 있는 X-Forwarded-For는 직접 읽지 않습니다.
+ * 프록시 뒤에서는 server.forward-headers-strategy로 신뢰하는 프록시의 헤더만 getRemoteAddr()에 반영됩니다.
+ */
+@Component
+public class ViewerKeyUtil {
+
+    /**
+     * 방문자 키 생성
+     * @param userId 로그인 사용자 ID (비로그인 시 null)
+     * @param request HTTP 요청 객체
+     * @return 방문자 키 (예: "u:user01", "c:127.0.0.1|Mozilla/5.0...")
+     */
+    public static String resolve(String userId, HttpServletRequest request) {
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        return "c:" + request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+    }
+}
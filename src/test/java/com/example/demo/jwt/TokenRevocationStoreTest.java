@@ -0,0 +1,81 @@
+package com.example.demo.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TokenRevocationStoreTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void snapshotRoundTripRestoresLiveEntries() {
+		Path snapshot = tempDir.resolve("data/revoked-tokens.bin");
+		long now = System.currentTimeMillis();
+		String live = UUID.randomUUID().toString();
+		String expired = UUID.randomUUID().toString();
+		String notUuid = "legacy-token-id";
+
+		TokenRevocationStore store = new TokenRevocationStore(1_000, snapshot.toString());
+		assertTrue(store.revoke(live, now + 60_000));
+		assertTrue(store.revoke(expired, now - 1));
+		assertTrue(store.revoke(notUuid, now + 60_000));
+		assertFalse(store.revoke(live, now + 60_000));
+		store.shutdown();
+		assertTrue(Files.exists(snapshot));
+
+		TokenRevocationStore restored = new TokenRevocationStore(1_000, snapshot.toString());
+		restored.loadSnapshot();
+
+		assertTrue(restored.isRevoked(live));
+		assertFalse(restored.isRevoked(expired));       // 만료된 항목은 복원하지 않음
+		assertFalse(restored.isRevoked(notUuid));       // UUID가 아닌 jti는 스냅샷에서 제외
+		assertFalse(restored.isRevoked(UUID.randomUUID().toString()));
+		assertFalse(restored.isRevoked(null));
+	}
+
+	@Test
+	void purgeRemovesExpiredEntriesAndRewritesSnapshot() {
+		Path snapshot = tempDir.resolve("revoked-tokens.bin");
+		long now = System.currentTimeMillis();
+		String live = UUID.randomUUID().toString();
+		String expired = UUID.randomUUID().toString();
+
+		TokenRevocationStore store = new TokenRevocationStore(1_000, snapshot.toString());
+		store.revoke(live, now + 60_000);
+		store.revoke(expired, now - 1);
+		store.purgeExpired();
+
+		assertTrue(store.isRevoked(live));
+		assertFalse(store.isRevoked(expired));
+
+		TokenRevocationStore restored = new TokenRevocationStore(1_000, snapshot.toString());
+		restored.loadSnapshot();
+		assertTrue(restored.isRevoked(live));
+	}
+
+	@Test
+	void missingOrInvalidSnapshotStartsEmpty() throws IOException {
+		Path snapshot = tempDir.resolve("revoked-tokens.bin");
+
+		TokenRevocationStore missing = new TokenRevocationStore(1_000, snapshot.toString());
+		missing.loadSnapshot();
+		assertFalse(missing.isRevoked(UUID.randomUUID().toString()));
+
+		Files.write(snapshot, new byte[] { 1, 2, 3, 4, 0, 0, 0, 1 });
+		TokenRevocationStore invalid = new TokenRevocationStore(1_000, snapshot.toString());
+		invalid.loadSnapshot();
+		String tokenId = UUID.randomUUID().toString();
+		assertFalse(invalid.isRevoked(tokenId));
+		assertTrue(invalid.revoke(tokenId, System.currentTimeMillis() + 60_000));
+		assertTrue(invalid.isRevoked(tokenId));
+	}
+}
@@ -0,0 +1,81 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.entity.BoardViewerSketch;
+import com.example.demo.repository.BoardViewerSketchRepository;
+
+class BoardUniqueViewServiceTest {
+
+	private final Map<Long, BoardViewerSketch> table = new HashMap<>();
+	private int loads;
+
+	@Test
+	void sketchEvictedByFlushIsReloadedBeforeRecording() {
+		BoardUniqueViewService service = new BoardUniqueViewService(repository());
+		for (int i = 0; i < 100; i++) {
+			service.record(1L, "viewer-" + i);
+		}
+
+		// 저장 후 변경이 없으므로 같은 flush에서 메모리에서 내려감
+		service.flush();
+		long persisted = table.get(1L).getUniqueViewCnt();
+		assertTrue(persisted >= 95 && persisted <= 105, "저장된 추정치 " + persisted);
+
+		// 내려간 스케치를 다시 읽어 이어서 집계해야 함 (빈 스케치로 덮어쓰면 1 근처로 떨어짐)
+		long estimate = service.record(1L, "viewer-new");
+		assertTrue(estimate >= persisted, "재적재 후 추정치 " + estimate);
+		assertEquals(2, loads);
+
+		service.flush();
+		assertTrue(table.get(1L).getUniqueViewCnt() >= persisted);
+	}
+
+	@Test
+	void repeatedViewerDoesNotMarkSketchDirty() {
+		BoardUniqueViewService service = new BoardUniqueViewService(repository());
+		service.record(1L, "viewer");
+		service.flush();
+		BoardViewerSketch saved = table.get(1L);
+
+		assertEquals(1, service.record(1L, "viewer"));
+		service.flush();
+		assertTrue(saved == table.get(1L), "변경 없는 스케치는 다시 저장하지 않아야 함");
+	}
+
+	@Test
+	void lookupWithoutViewerKeyDoesNotPersist() {
+		BoardUniqueViewService service = new BoardUniqueViewService(repository());
+		assertEquals(0, service.record(1L, null));
+		service.flush();
+		assertTrue(table.isEmpty());
+	}
+
+	@SuppressWarnings("unchecked")
+	private BoardViewerSketchRepository repository() {
+		return (BoardViewerSketchRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { BoardViewerSketchRepository.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "findById":
+						loads++;
+						return Optional.ofNullable(table.get((Long) args[0]));
+					case "saveAll":
+						for (BoardViewerSketch sketch : (Iterable<BoardViewerSketch>) args[0]) {
+							table.put(sketch.getBoardNo(), sketch);
+						}
+						return List.of();
+					default:
+						throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+}
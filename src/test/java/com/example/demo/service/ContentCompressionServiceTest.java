@@ -0,0 +1,388 @@
+package com.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.entity.Board;
+import com.example.demo.util.TextCompressor;
+
+class ContentCompressionServiceTest {
+
+	private final TextCompressor textCompressor = new TextCompressor(true, 64);
+
+	@Test
+	void compressBoardsRewritesOnlyLargePlainRows() {
+		String large = "긴 게시글 본문입니다. ".repeat(40);
+		String alreadyCompressed = textCompressor.compress("이미 압축된 본문 ".repeat(40));
+		FakeTable table = new FakeTable("TB_BOARD", "board_no");
+		table.insert(1L, "content", "짧은 본문", "excerpt", "짧은 본문");
+		table.insert(2L, "content", large, "excerpt", null);
+		table.insert(3L, "content", alreadyCompressed, "excerpt", "기존 요약");
+		table.insert(700L, "content", large, "excerpt", "기존 요약");
+
+		int updated = new ContentCompressionService(table, textCompressor).compressBoards();
+
+		assertEquals(2, updated);
+		assertEquals("짧은 본문", table.get(1L, "content"));
+		assertTrue(TextCompressor.isCompressed(table.get(2L, "content")));
+		assertEquals(large, textCompressor.decompress(table.get(2L, "content")));
+		assertEquals(Board.toExcerpt(large), table.get(2L, "excerpt"));   // 요약이 없으면 원문으로 생성
+		assertEquals(alreadyCompressed, table.get(3L, "content"));
+		assertEquals(large, textCompressor.decompress(table.get(700L, "content")));   // 두 번째 구간
+		assertEquals("기존 요약", table.get(700L, "excerpt"));             // 기존 요약은 유지
+	}
+
+	@Test
+	void compressBoardsDoesNotOverwriteRowsEditedAfterRead() {
+		String large = "긴 게시글 본문입니다. ".repeat(40);
+		FakeTable table = new FakeTable("TB_BOARD", "board_no");
+		table.insert(1L, "content", large, "excerpt", null);
+		table.afterSelect = () -> table.set(1L, "content", "읽은 뒤 수정된 본문");
+
+		int updated = new ContentCompressionService(table, textCompressor).compressBoards();
+
+		assertEquals(0, updated);
+		assertEquals("읽은 뒤 수정된 본문", table.get(1L, "content"));
+	}
+
+	@Test
+	void compressCommentsRewritesOnlyLargePlainRows() {
+		String large = "긴 댓글 ".repeat(50);
+		FakeTable table = new FakeTable("TB_COMMENT", "comment_no");
+		table.insert(1L, "content", "짧은 댓글");
+		table.insert(2L, "content", large);
+
+		int updated = new ContentCompressionService(table, textCompressor).compressComments();
+
+		assertEquals(1, updated);
+		assertEquals("짧은 댓글", table.get(1L, "content"));
+		assertEquals(large, textCompressor.decompress(table.get(2L, "content")));
+	}
+
+	@Test
+	void compressionIsNoOpWhenDisabled() {
+		FakeTable table = new FakeTable("TB_COMMENT", "comment_no");
+		table.insert(1L, "content", "긴 댓글 ".repeat(50));
+
+		int updated = new ContentCompressionService(table, new TextCompressor(false, 64)).compressComments();
+
+		assertEquals(0, updated);
+		assertFalse(TextCompressor.isCompressed(table.get(1L, "content")));
+	}
+
+	@Test
+	void compressionOfEmptyTableDoesNothing() {
+		FakeTable table = new FakeTable("TB_BOARD", "board_no");
+
+		assertEquals(0, new ContentCompressionService(table, textCompressor).compressBoards());
+	}
+
+	@Test
+	void backfillExcerptsUsesDecompressedTextForCompressedRows() {
+		String longText = "첫 문단입니다. ".repeat(40);
+		FakeTable table = new FakeTable("TB_BOARD", "board_no");
+		table.insert(1L, "content", "짧은 본문", "excerpt", null);
+		table.insert(2L, "content", textCompressor.compress(longText), "excerpt", null);
+		table.insert(3L, "content", longText, "excerpt", null);
+		assertTrue(TextCompressor.isCompressed(table.get(2L, "content")));
+
+		int updated = new ContentCompressionService(table, textCompressor).backfillExcerpts();
+
+		assertEquals(3, updated);
+		assertEquals("짧은 본문", table.get(1L, "excerpt"));
+		assertEquals(Board.toExcerpt(longText), table.get(2L, "excerpt"));
+		assertEquals(Board.toExcerpt(longText), table.get(3L, "excerpt"));   // SQL 요약도 같은 규칙
+	}
+
+	@Test
+	void backfillExcerptsSkipsRowsThatAlreadyHaveAnExcerpt() {
+		FakeTable table = new FakeTable("TB_BOARD", "board_no");
+		table.insert(1L, "content", textCompressor.compress("기존 본문 ".repeat(40)), "excerpt", "기존 요약");
+		table.insert(2L, "content", "기존 본문", "excerpt", "기존 요약");
+
+		int updated = new ContentCompressionService(table, textCompressor).backfillExcerpts();
+
+		assertEquals(0, updated);
+		assertEquals("기존 요약", table.get(1L, "excerpt"));
+		assertEquals("기존 요약", table.get(2L, "excerpt"));
+		assertNull(table.get(3L, "excerpt"));
+	}
+
+	/**
+	 * 테이블 하나를 메모리에 두고, 서비스가 보낸 SQL 문자열을 해석해 실행하는 JdbcTemplate
+	 *
+	 * 지원 문법 (MySQL 의미):
+	 * - SELECT MAX(pk) FROM 테이블
+	 * - SELECT pk AS no, content FROM 테이블 WHERE 조건
+	 * - UPDATE 테이블 SET 대입, ... WHERE 조건
+	 * - 조건: col BETWEEN ? AND ?, LENGTH(col) >= ? (바이트), col [NOT] LIKE '접두%', col IS NULL, col = ?
+	 * - 대입: col = ?, col = COALESCE(col, ?), col = CASE WHEN CHAR_LENGTH(col) > n THEN CONCAT(SUBSTRING(col, 1, n), '...') ELSE col END
+	 * 해석할 수 없는 SQL은 예외로 실패시켜, 테스트가 실제 SQL과 어긋나지 않도록 합니다.
+	 */
+	private static final class FakeTable extends JdbcTemplate {
+
+		private static final Pattern MAX = Pattern.compile("SELECT MAX\\((\\w+)\\) FROM (\\w+)");
+		private static final Pattern SELECT = Pattern.compile("SELECT (\\w+) AS no, (\\w+) FROM (\\w+) WHERE (.+)");
+		private static final Pattern UPDATE = Pattern.compile("UPDATE (\\w+) SET (.+?) WHERE (.+)");
+
+		private static final Pattern BETWEEN = Pattern.compile("(\\w+) BETWEEN \\? AND \\?");
+		private static final Pattern LENGTH_AT_LEAST = Pattern.compile("LENGTH\\((\\w+)\\) >= \\?");
+		private static final Pattern NOT_LIKE = Pattern.compile("(\\w+) NOT LIKE \\?");
+		private static final Pattern LIKE = Pattern.compile("(\\w+) LIKE \\?");
+		private static final Pattern IS_NULL = Pattern.compile("(\\w+) IS NULL");
+		private static final Pattern EQUALS = Pattern.compile("(\\w+) = \\?");
+
+		private static final Pattern SET_PARAM = Pattern.compile("(\\w+) = \\?");
+		private static final Pattern SET_COALESCE = Pattern.compile("(\\w+) = COALESCE\\((\\w+), \\?\\)");
+		private static final Pattern SET_EXCERPT = Pattern.compile(
+				"(\\w+) = CASE WHEN CHAR_LENGTH\\((\\w+)\\) > (\\d+) THEN CONCAT\\(SUBSTRING\\(\\2, 1, (\\d+)\\), '\\.\\.\\.'\\) ELSE \\2 END");
+
+		private final String tableName;
+		private final String pk;
+		private final TreeMap<Long, Map<String, String>> rows = new TreeMap<>();
+
+		// SELECT 직후 실행 (읽은 뒤 다른 요청이 행을 바꾸는 상황 재현용)
+		private Runnable afterSelect = () -> { };
+
+		private FakeTable(String tableName, String pk) {
+			this.tableName = tableName;
+			this.pk = pk;
+		}
+
+		private void insert(Long no, String... columnValues) {
+			Map<String, String> row = new HashMap<>();
+			for (int i = 0; i < columnValues.length; i += 2) {
+				row.put(columnValues[i], columnValues[i + 1]);
+			}
+			rows.put(no, row);
+		}
+
+		private String get(Long no, String column) {
+			Map<String, String> row = rows.get(no);
+			return row == null ? null : row.get(column);
+		}
+
+		private void set(Long no, String column, String value) {
+			rows.get(no).put(column, value);
+		}
+
+		@Override
+		public <T> T queryForObject(String sql, Class<T> requiredType) {
+			Matcher m = matchTable(MAX, sql, 2);
+			assertEquals(pk, m.group(1));
+			return requiredType.cast(rows.isEmpty() ? null : rows.lastKey());
+		}
+
+		@Override
+		public List<Map<String, Object>> queryForList(String sql, Object... args) {
+			Matcher m = matchTable(SELECT, sql, 3);
+			assertEquals(pk, m.group(1));
+			Args params = new Args(args);
+			List<Map<String, Object>> result = new ArrayList<>();
+			for (Long no : filter(m.group(4), params)) {
+				Map<String, Object> row = new LinkedHashMap<>();
+				row.put("no", no);
+				row.put(m.group(2), get(no, m.group(2)));
+				result.add(row);
+			}
+			params.assertConsumed();
+			afterSelect.run();
+			return result;
+		}
+
+		@Override
+		public int update(String sql, Object... args) {
+			Matcher m = matchTable(UPDATE, sql, 1);
+			Args params = new Args(args);
+			List<Assignment> assignments = parseAssignments(m.group(2), params);
+			List<Long> matched = filter(m.group(3), params);
+			params.assertConsumed();
+			for (Long no : matched) {
+				Map<String, String> before = new HashMap<>(rows.get(no));
+				for (Assignment assignment : assignments) {
+					rows.get(no).put(assignment.column, assignment.evaluate(before));
+				}
+			}
+			return matched.size();
+		}
+
+		@Override
+		public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+			int[] counts = new int[batchArgs.size()];
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] = update(sql, batchArgs.get(i));
+			}
+			return counts;
+		}
+
+		private Matcher matchTable(Pattern pattern, String sql, int tableGroup) {
+			Matcher m = pattern.matcher(sql);
+			assertTrue(m.matches(), "해석할 수 없는 SQL: " + sql);
+			assertEquals(tableName, m.group(tableGroup), sql);
+			return m;
+		}
+
+		private List<Long> filter(String where, Args params) {
+			List<RowPredicate> predicates = new ArrayList<>();
+			for (String clause : splitConditions(where)) {
+				predicates.add(parseCondition(clause, params));
+			}
+			List<Long> result = new ArrayList<>();
+			rows.forEach((no, row) -> {
+				if (predicates.stream().allMatch(p -> p.test(no, row))) {
+					result.add(no);
+				}
+			});
+			return result;
+		}
+
+		// " AND "로 조건을 나누되, BETWEEN ? AND ?의 AND는 나누지 않음
+		private static List<String> splitConditions(String where) {
+			List<String> clauses = new ArrayList<>();
+			for (String part : where.split(" AND ")) {
+				int last = clauses.size() - 1;
+				if (last >= 0 && clauses.get(last).endsWith("BETWEEN ?")) {
+					clauses.set(last, clauses.get(last) + " AND " + part);
+				} else {
+					clauses.add(part);
+				}
+			}
+			return clauses;
+		}
+
+		private RowPredicate parseCondition(String clause, Args params) {
+			Matcher m;
+			if ((m = BETWEEN.matcher(clause)).matches()) {
+				assertEquals(pk, m.group(1), clause);
+				long from = ((Number) params.next()).longValue();
+				long to = ((Number) params.next()).longValue();
+				return (no, row) -> no >= from && no <= to;
+			}
+			if ((m = LENGTH_AT_LEAST.matcher(clause)).matches()) {
+				String column = m.group(1);
+				int min = ((Number) params.next()).intValue();
+				return (no, row) -> row.get(column) != null
+						&& row.get(column).getBytes(StandardCharsets.UTF_8).length >= min;
+			}
+			if ((m = NOT_LIKE.matcher(clause)).matches()) {
+				String column = m.group(1);
+				String prefix = likePrefix(params.next());
+				return (no, row) -> row.get(column) != null && !row.get(column).startsWith(prefix);
+			}
+			if ((m = LIKE.matcher(clause)).matches()) {
+				String column = m.group(1);
+				String prefix = likePrefix(params.next());
+				return (no, row) -> row.get(column) != null && row.get(column).startsWith(prefix);
+			}
+			if ((m = IS_NULL.matcher(clause)).matches()) {
+				String column = m.group(1);
+				return (no, row) -> row.get(column) == null;
+			}
+			if ((m = EQUALS.matcher(clause)).matches()) {
+				String column = m.group(1);
+				Object value = params.next();
+				if (column.equals(pk)) {
+					return (no, row) -> no.equals(((Number) value).longValue());
+				}
+				return (no, row) -> value.equals(row.get(column));
+			}
+			throw new AssertionError("해석할 수 없는 조건: " + clause);
+		}
+
+		// LIKE 패턴은 '접두%' 형태만 사용 (와일드카드/이스케이프 문자가 접두에 섞이면 실패)
+		private static String likePrefix(Object pattern) {
+			String value = (String) pattern;
+			assertTrue(value.endsWith("%"), value);
+			String prefix = value.substring(0, value.length() - 1);
+			assertFalse(prefix.contains("%") || prefix.contains("_") || prefix.contains("\\"), value);
+			return prefix;
+		}
+
+		private List<Assignment> parseAssignments(String set, Args params) {
+			List<Assignment> assignments = new ArrayList<>();
+			int depth = 0;
+			int start = 0;
+			for (int i = 0; i <= set.length(); i++) {
+				char c = i < set.length() ? set.charAt(i) : ',';
+				if (c == '(') {
+					depth++;
+				} else if (c == ')') {
+					depth--;
+				} else if (c == ',' && depth == 0) {
+					assignments.add(parseAssignment(set.substring(start, i).trim(), params));
+					start = i + 1;
+				}
+			}
+			return assignments;
+		}
+
+		private Assignment parseAssignment(String text, Args params) {
+			Matcher m;
+			if ((m = SET_EXCERPT.matcher(text)).matches()) {
+				String source = m.group(2);
+				int limit = Integer.parseInt(m.group(3));
+				assertEquals(m.group(3), m.group(4), text);
+				return new Assignment(m.group(1), row -> {
+					String value = row.get(source);
+					return value.codePointCount(0, value.length()) > limit
+							? value.substring(0, value.offsetByCodePoints(0, limit)) + "..."
+							: value;
+				});
+			}
+			if ((m = SET_COALESCE.matcher(text)).matches()) {
+				String source = m.group(2);
+				String value = (String) params.next();
+				return new Assignment(m.group(1), row -> row.get(source) != null ? row.get(source) : value);
+			}
+			if ((m = SET_PARAM.matcher(text)).matches()) {
+				String value = (String) params.next();
+				return new Assignment(m.group(1), row -> value);
+			}
+			throw new AssertionError("해석할 수 없는 대입: " + text);
+		}
+
+		private interface RowPredicate {
+			boolean test(Long no, Map<String, String> row);
+		}
+
+		private record Assignment(String column, java.util.function.Function<Map<String, String>, String> expression) {
+			private String evaluate(Map<String, String> row) {
+				return expression.apply(row);
+			}
+		}
+
+		private static final class Args {
+			private final Object[] values;
+			private int index;
+
+			private Args(Object[] values) {
+				this.values = values;
+			}
+
+			private Object next() {
+				assertTrue(index < values.length, "파라미터 개수가 ?보다 적습니다.");
+				return values[index++];
+			}
+
+			private void assertConsumed() {
+				assertEquals(values.length, index, "파라미터 개수가 ?와 다릅니다.");
+			}
+		}
+	}
+}
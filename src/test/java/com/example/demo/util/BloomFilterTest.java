@@ -0,0 +1,60 @@
+package com.example.demo.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	void addedValuesAreAlwaysReported() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		String[] values = new String[10_000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = UUID.randomUUID().toString();
+			filter.add(values[i]);
+		}
+		for (String value : values) {
+			assertTrue(filter.mightContain(value), "추가한 값은 항상 있을 수도 있음이어야 함: " + value);
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTarget() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.add("revoked-" + i);
+		}
+
+		int falsePositives = 0;
+		int trials = 100_000;
+		for (int i = 0; i < trials; i++) {
+			if (filter.mightContain("active-" + i)) {
+				falsePositives++;
+			}
+		}
+		double rate = (double) falsePositives / trials;
+		assertTrue(rate < 0.02, "오탐률 " + rate);
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter filter = new BloomFilter(100, 0.01);
+		assertFalse(filter.mightContain("anything"));
+		assertFalse(filter.mightContain(""));
+	}
+
+	@Test
+	void tinyCapacityStillHasNoFalseNegatives() {
+		BloomFilter filter = new BloomFilter(0, 0.01);
+		for (int i = 0; i < 1_000; i++) {
+			filter.add("token-" + i);
+		}
+		for (int i = 0; i < 1_000; i++) {
+			assertTrue(filter.mightContain("token-" + i));
+		}
+	}
+}
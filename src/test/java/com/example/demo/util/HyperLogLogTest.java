@@ -0,0 +1,68 @@
+package com.example.demo.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+	@Test
+	void estimateStaysWithinErrorBound() {
+		// 표준 오차 약 2.3% → 여유를 두고 6% 이내인지 확인
+		for (int cardinality : new int[] { 100, 1_000, 10_000, 100_000 }) {
+			HyperLogLog sketch = new HyperLogLog();
+			for (int i = 0; i < cardinality; i++) {
+				sketch.offer("u:user" + i);
+			}
+			double error = Math.abs(sketch.estimate() - cardinality) / (double) cardinality;
+			assertTrue(error < 0.06, cardinality + "개 추정 오차 " + error);
+		}
+	}
+
+	@Test
+	void repeatedKeysAreCountedOnce() {
+		HyperLogLog sketch = new HyperLogLog();
+		for (int repeat = 0; repeat < 10; repeat++) {
+			for (int i = 0; i < 500; i++) {
+				sketch.offer("c:10.0.0." + i + "|Mozilla/5.0");
+			}
+		}
+		assertEquals(500, sketch.estimate(), 500 * 0.06);
+		assertFalse(sketch.offer("c:10.0.0.1|Mozilla/5.0"));
+	}
+
+	@Test
+	void emptySketchEstimatesZero() {
+		assertEquals(0, new HyperLogLog().estimate());
+	}
+
+	@Test
+	void toBytesRoundTripPreservesRegisters() {
+		HyperLogLog sketch = new HyperLogLog();
+		for (int i = 0; i < 5_000; i++) {
+			sketch.offer("u:user" + i);
+		}
+
+		byte[] bytes = sketch.toBytes();
+		assertEquals(HyperLogLog.REGISTER_COUNT, bytes.length);
+
+		HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+		assertArrayEquals(bytes, restored.toBytes());
+		assertEquals(sketch.estimate(), restored.estimate());
+
+		// 복원한 스케치를 변경해도 원본 바이트 배열에는 영향 없음
+		for (int i = 5_000; i < 10_000; i++) {
+			restored.offer("u:user" + i);
+		}
+		assertArrayEquals(bytes, sketch.toBytes());
+	}
+
+	@Test
+	void fromBytesWithInvalidInputReturnsEmptySketch() {
+		assertEquals(0, HyperLogLog.fromBytes(null).estimate());
+		assertEquals(0, HyperLogLog.fromBytes(new byte[16]).estimate());
+	}
+}
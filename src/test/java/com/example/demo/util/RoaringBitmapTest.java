@@ -0,0 +1,143 @@
+package com.example.demo.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class RoaringBitmapTest {
+
+	// 구간(container)당 배열 → 비트맵 전환 기준
+	private static final int ARRAY_MAX_SIZE = 4096;
+
+	@Test
+	void addAndRemoveAcrossArrayBitmapThreshold() {
+		RoaringBitmap bitmap = new RoaringBitmap();
+		for (int i = 0; i < ARRAY_MAX_SIZE; i++) {
+			assertTrue(bitmap.add(i * 2));
+		}
+
+		// 4097번째 값에서 비트맵 구간으로 전환
+		assertTrue(bitmap.add(1));
+		assertEquals(ARRAY_MAX_SIZE + 1, bitmap.cardinality());
+		assertTrue(bitmap.contains(1));
+		assertTrue(bitmap.contains(8190));
+		assertFalse(bitmap.contains(3));
+
+		// 다시 4096개 이하로 줄면 배열 구간으로 돌아가고 값은 유지
+		assertTrue(bitmap.remove(1));
+		assertEquals(ARRAY_MAX_SIZE, bitmap.cardinality());
+		for (int i = 0; i < ARRAY_MAX_SIZE; i++) {
+			assertTrue(bitmap.contains(i * 2));
+		}
+		assertFalse(bitmap.contains(1));
+
+		// 배열로 돌아간 뒤에도 추가/삭제 가능
+		assertTrue(bitmap.add(3));
+		assertTrue(bitmap.remove(0));
+		assertEquals(ARRAY_MAX_SIZE, bitmap.cardinality());
+	}
+
+	@Test
+	void removingLastValueDropsContainer() {
+		RoaringBitmap bitmap = new RoaringBitmap();
+		long emptyBytes = bitmap.sizeInBytes();
+
+		int high = 5 << 16;
+		bitmap.add(high + 1);
+		bitmap.add(high + 2);
+		bitmap.add(7);
+		assertTrue(bitmap.remove(high + 1));
+		assertTrue(bitmap.remove(high + 2));
+
+		assertFalse(bitmap.contains(high + 1));
+		assertFalse(bitmap.contains(high + 2));
+		assertTrue(bitmap.contains(7));
+		assertEquals(1, bitmap.cardinality());
+
+		assertTrue(bitmap.remove(7));
+		assertEquals(0, bitmap.cardinality());
+		assertEquals(emptyBytes, bitmap.sizeInBytes());
+
+		// 제거된 구간에 다시 추가
+		assertTrue(bitmap.add(high + 3));
+		assertTrue(bitmap.contains(high + 3));
+	}
+
+	@Test
+	void addAndRemoveReportChanges() {
+		RoaringBitmap bitmap = new RoaringBitmap();
+		assertTrue(bitmap.add(42));
+		assertFalse(bitmap.add(42));
+		assertEquals(1, bitmap.cardinality());
+
+		assertFalse(bitmap.remove(43));
+		assertFalse(bitmap.remove(1 << 20));
+		assertTrue(bitmap.remove(42));
+		assertFalse(bitmap.remove(42));
+		assertEquals(0, bitmap.cardinality());
+	}
+
+	@Test
+	void containsOnSparseAndDenseKeys() {
+		RoaringBitmap bitmap = new RoaringBitmap();
+		TreeSet<Integer> expected = new TreeSet<>();
+
+		// 조밀한 구간 (비트맵)
+		for (int i = 0; i < 10_000; i++) {
+			bitmap.add(i);
+			expected.add(i);
+		}
+		// 드문 구간 (여러 상위 키에 흩어진 값, 역순 추가 포함)
+		for (int high = 200; high >= 1; high--) {
+			int value = (high << 16) + high * 7;
+			bitmap.add(value);
+			expected.add(value);
+		}
+		bitmap.add(Integer.MAX_VALUE);
+		expected.add(Integer.MAX_VALUE);
+
+		assertEquals(expected.size(), bitmap.cardinality());
+		for (int value : expected) {
+			assertTrue(bitmap.contains(value), "포함되어야 함: " + value);
+		}
+		assertFalse(bitmap.contains(10_000));
+		assertFalse(bitmap.contains((3 << 16) + 1));
+		assertFalse(bitmap.contains(Integer.MAX_VALUE - 1));
+		assertFalse(bitmap.contains(-1));
+	}
+
+	@Test
+	void matchesTreeSetUnderRandomOperations() {
+		Random random = new Random(18);
+		RoaringBitmap bitmap = new RoaringBitmap();
+		TreeSet<Integer> expected = new TreeSet<>();
+
+		// 두 구간에 값을 몰아 넣어 배열/비트맵 전환이 반복되도록 함
+		for (int i = 0; i < 200_000; i++) {
+			int value = (random.nextInt(2) << 16) + random.nextInt(12_000);
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(value), bitmap.remove(value));
+			} else {
+				assertEquals(expected.add(value), bitmap.add(value));
+			}
+		}
+
+		assertEquals(expected.size(), bitmap.cardinality());
+		for (int value = 0; value < (2 << 16); value++) {
+			assertEquals(expected.contains(value), bitmap.contains(value));
+		}
+	}
+
+	@Test
+	void negativeValuesAreRejected() {
+		RoaringBitmap bitmap = new RoaringBitmap();
+		assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+		assertThrows(IllegalArgumentException.class, () -> bitmap.remove(-1));
+	}
+}
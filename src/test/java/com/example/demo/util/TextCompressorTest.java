@@ -0,0 +1,109 @@
+package com.example.demo.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TextCompressorTest {
+
+	@Test
+	void largeTextRoundTrips() {
+		TextCompressor compressor = new TextCompressor(true, 64);
+		String text = "게시글 본문입니다. Hello, world! 😀\n".repeat(200);
+
+		String stored = compressor.compress(text);
+
+		assertTrue(TextCompressor.isCompressed(stored));
+		assertTrue(stored.length() < text.getBytes(StandardCharsets.UTF_8).length);
+		assertEquals(text, compressor.decompress(stored));
+		assertEquals(1, compressor.getCompressedCount());
+		assertEquals(text.getBytes(StandardCharsets.UTF_8).length, compressor.getOriginalBytes());
+		assertEquals(stored.length(), compressor.getStoredBytes());
+		assertTrue(compressor.getCompressionRatio() < 1.0);
+	}
+
+	@Test
+	void textBelowThresholdPassesThrough() {
+		TextCompressor compressor = new TextCompressor(true, 64);
+		// 한글 21자 = 63바이트 (임계값은 글자 수가 아니라 UTF-8 바이트 기준)
+		String text = "가".repeat(21);
+
+		assertSame(text, compressor.compress(text));
+		assertSame(text, compressor.decompress(text));
+		assertEquals(0, compressor.getCompressedCount());
+		assertEquals(1.0, compressor.getCompressionRatio());
+	}
+
+	@Test
+	void disabledCompressorStoresPlainText() {
+		TextCompressor compressor = new TextCompressor(false, 64);
+		String text = "반복되는 본문 ".repeat(500);
+
+		assertSame(text, compressor.compress(text));
+		assertEquals(0, compressor.getCompressedCount());
+	}
+
+	@Test
+	void incompressibleTextIsStoredAsIs() {
+		TextCompressor compressor = new TextCompressor(true, 64);
+		byte[] random = new byte[3000];
+		new Random(42).nextBytes(random);
+		String text = Base64.getEncoder().encodeToString(random);
+
+		assertSame(text, compressor.compress(text));
+		assertFalse(TextCompressor.isCompressed(compressor.compress(text)));
+		assertEquals(0, compressor.getCompressedCount());
+	}
+
+	@Test
+	void textStartingWithMarkerIsAlwaysCompressed() {
+		TextCompressor disabled = new TextCompressor(false, 4096);
+		String text = TextCompressor.MARKER + "짧은 본문";
+
+		String stored = disabled.compress(text);
+
+		assertTrue(TextCompressor.isCompressed(stored));
+		assertTrue(stored.length() > text.length());
+		assertEquals(text, disabled.decompress(stored));
+		assertEquals(text, new TextCompressor(true, 4096).decompress(stored));
+	}
+
+	@Test
+	void storedFormatIsMarkerPlusBase64Deflate() {
+		TextCompressor compressor = new TextCompressor(true, 64);
+		String stored = compressor.compress("a".repeat(1000));
+
+		assertTrue(stored.startsWith(TextCompressor.MARKER));
+		byte[] payload = Base64.getDecoder().decode(stored.substring(TextCompressor.MARKER.length()));
+		assertTrue(payload.length > 0 && payload.length < 1000);
+	}
+
+	@Test
+	void nullPassesThrough() {
+		TextCompressor compressor = new TextCompressor(true, 64);
+
+		assertNull(compressor.compress(null));
+		assertNull(compressor.decompress(null));
+		assertFalse(TextCompressor.isCompressed(null));
+	}
+
+	@Test
+	void corruptedPayloadIsRejected() {
+		TextCompressor compressor = new TextCompressor(true, 64);
+		String stored = compressor.compress("손상 테스트 ".repeat(100));
+		String truncated = stored.substring(0, stored.length() - 8);
+		String garbage = TextCompressor.MARKER + Base64.getEncoder().encodeToString(new byte[] { 1, 2, 3, 4 });
+
+		assertThrows(IllegalStateException.class, () -> compressor.decompress(truncated));
+		assertThrows(IllegalStateException.class, () -> compressor.decompress(garbage));
+	}
+}